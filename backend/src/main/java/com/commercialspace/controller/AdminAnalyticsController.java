@@ -1,11 +1,15 @@
 package com.commercialspace.controller;
 
 import com.commercialspace.service.AdminAnalyticsService;
+import com.commercialspace.service.AnalyticsAggregateStore;
+import com.commercialspace.service.AnalyticsSectionRunner;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
 import java.util.Map;
 
 @RestController
@@ -16,6 +20,12 @@ public class AdminAnalyticsController {
     @Autowired
     private AdminAnalyticsService analyticsService;
 
+    @Autowired
+    private AnalyticsAggregateStore aggregateStore;
+
+    @Autowired
+    private AnalyticsSectionRunner sectionRunner;
+
     @GetMapping
     public ResponseEntity<Map<String, Object>> getAnalytics(@RequestParam(defaultValue = "30") int days) {
         Map<String, Object> analytics = analyticsService.getAnalytics(days);
@@ -34,6 +44,16 @@ public class AdminAnalyticsController {
         return ResponseEntity.ok(bookingAnalytics);
     }
 
+    @GetMapping("/bookings/series")
+    public ResponseEntity<Map<String, Object>> getBookingSeries(
+            @RequestParam(defaultValue = "month") String granularity,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) String timezone) {
+        Map<String, Object> series = analyticsService.getBookingSeries(granularity, from, to, timezone);
+        return ResponseEntity.ok(series);
+    }
+
     @GetMapping("/revenue")
     public ResponseEntity<Map<String, Object>> getRevenueAnalytics(@RequestParam(defaultValue = "30") int days) {
         Map<String, Object> revenueAnalytics = analyticsService.getRevenueAnalytics(days);
@@ -45,4 +65,14 @@ public class AdminAnalyticsController {
         Map<String, Object> userAnalytics = analyticsService.getUserAnalytics(days);
         return ResponseEntity.ok(userAnalytics);
     }
+
+    @GetMapping("/aggregates")
+    public ResponseEntity<Map<String, Object>> getAggregateStats() {
+        return ResponseEntity.ok(aggregateStore.getStats());
+    }
+
+    @GetMapping("/sections")
+    public ResponseEntity<Map<String, Object>> getSectionStats() {
+        return ResponseEntity.ok(sectionRunner.getStats());
+    }
 }
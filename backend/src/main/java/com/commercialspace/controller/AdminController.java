@@ -1,12 +1,20 @@
 package com.commercialspace.controller;
 
 import com.commercialspace.dto.PropertyResponse;
+import com.commercialspace.service.BookingHoldService;
+import com.commercialspace.service.EmailOutboxService;
+import com.commercialspace.service.IdempotencyService;
+import com.commercialspace.service.LeaseRenderingService;
+import com.commercialspace.service.PropertyExportService;
+import com.commercialspace.service.PropertyResponseCache;
 import com.commercialspace.service.PropertyService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -14,7 +22,9 @@ import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 import java.util.Map;
@@ -28,9 +38,23 @@ public class AdminController {
 
     private static final Logger logger = LoggerFactory.getLogger(AdminController.class);
     private final PropertyService propertyService;
+    private final PropertyResponseCache propertyResponseCache;
+    private final PropertyExportService propertyExportService;
+    private final EmailOutboxService emailOutboxService;
+    private final LeaseRenderingService leaseRenderingService;
+    private final IdempotencyService idempotencyService;
+    private final BookingHoldService bookingHoldService;
 
-    public AdminController(PropertyService propertyService) {
+    public AdminController(PropertyService propertyService, PropertyResponseCache propertyResponseCache, PropertyExportService propertyExportService,
+                           EmailOutboxService emailOutboxService, LeaseRenderingService leaseRenderingService,
+                           IdempotencyService idempotencyService, BookingHoldService bookingHoldService) {
         this.propertyService = propertyService;
+        this.propertyResponseCache = propertyResponseCache;
+        this.propertyExportService = propertyExportService;
+        this.emailOutboxService = emailOutboxService;
+        this.leaseRenderingService = leaseRenderingService;
+        this.idempotencyService = idempotencyService;
+        this.bookingHoldService = bookingHoldService;
     }
 
     @GetMapping("/properties")
@@ -47,6 +71,24 @@ public class AdminController {
         }
     }
 
+    @GetMapping("/properties/export")
+    @Operation(summary = "Stream all properties as NDJSON or CSV (ADMIN only)")
+    public ResponseEntity<StreamingResponseBody> exportProperties(@RequestParam(value = "format", defaultValue = "ndjson") String format) {
+        PropertyExportService.Format exportFormat;
+        try {
+            exportFormat = PropertyExportService.Format.valueOf(format.toUpperCase());
+        } catch (IllegalArgumentException ex) {
+            return ResponseEntity.badRequest().build();
+        }
+        logger.info("Admin exporting properties as {}", exportFormat);
+        boolean csv = exportFormat == PropertyExportService.Format.CSV;
+        StreamingResponseBody body = out -> propertyExportService.export(exportFormat, out);
+        return ResponseEntity.ok()
+            .contentType(csv ? MediaType.parseMediaType("text/csv") : MediaType.parseMediaType("application/x-ndjson"))
+            .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"properties." + (csv ? "csv" : "ndjson") + "\"")
+            .body(body);
+    }
+
     @PatchMapping("/properties/{id}/verify")
     @Operation(summary = "Verify or unverify a property (ADMIN only)")
     public ResponseEntity<?> verifyProperty(@PathVariable Long id, @RequestBody Map<String, Boolean> body) {
@@ -54,4 +96,34 @@ public class AdminController {
         propertyService.setVerified(id, verified);
         return ResponseEntity.ok().build();
     }
+
+    @GetMapping("/cache/properties")
+    @Operation(summary = "Get property detail cache statistics (ADMIN only)")
+    public ResponseEntity<Map<String, Object>> getPropertyCacheStats() {
+        return ResponseEntity.ok(propertyResponseCache.getStats());
+    }
+
+    @GetMapping("/email-outbox")
+    @Operation(summary = "Get email outbox delivery statistics (ADMIN only)")
+    public ResponseEntity<Map<String, Object>> getEmailOutboxStats() {
+        return ResponseEntity.ok(emailOutboxService.getStats());
+    }
+
+    @GetMapping("/lease-rendering")
+    @Operation(summary = "Get lease PDF rendering pool statistics (ADMIN only)")
+    public ResponseEntity<Map<String, Object>> getLeaseRenderingStats() {
+        return ResponseEntity.ok(leaseRenderingService.getStats());
+    }
+
+    @GetMapping("/idempotency")
+    @Operation(summary = "Get idempotency key store statistics (ADMIN only)")
+    public ResponseEntity<Map<String, Object>> getIdempotencyStats() {
+        return ResponseEntity.ok(idempotencyService.getStats());
+    }
+
+    @GetMapping("/booking-holds")
+    @Operation(summary = "Get booking hold statistics (ADMIN only)")
+    public ResponseEntity<Map<String, Object>> getBookingHoldStats() {
+        return ResponseEntity.ok(bookingHoldService.getStats());
+    }
 }
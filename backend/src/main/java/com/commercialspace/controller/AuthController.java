@@ -106,4 +106,20 @@ class GlobalExceptionHandler {
     public ResponseEntity<?> handleIllegalArgument(IllegalArgumentException ex) {
         return ResponseEntity.badRequest().body(java.util.Collections.singletonMap("message", ex.getMessage()));
     }
+
+    @ExceptionHandler(com.commercialspace.service.BookingConflictException.class)
+    public ResponseEntity<?> handleBookingConflict(com.commercialspace.service.BookingConflictException ex) {
+        return ResponseEntity.status(409).body(java.util.Collections.singletonMap("message", ex.getMessage()));
+    }
+
+    @ExceptionHandler(com.commercialspace.service.IdempotencyConflictException.class)
+    public ResponseEntity<?> handleIdempotencyConflict(com.commercialspace.service.IdempotencyConflictException ex) {
+        return ResponseEntity.status(409).body(java.util.Collections.singletonMap("message", ex.getMessage()));
+    }
+
+    // Another request changed the same booking first (stale @Version); the client should reload and retry
+    @ExceptionHandler(org.springframework.dao.OptimisticLockingFailureException.class)
+    public ResponseEntity<?> handleOptimisticLock(org.springframework.dao.OptimisticLockingFailureException ex) {
+        return ResponseEntity.status(409).body(java.util.Collections.singletonMap("message", "The booking was modified by another request, please reload and try again"));
+    }
 }
@@ -1,7 +1,16 @@
 package com.commercialspace.controller;
 
-import com.commercialspace.model.Booking;
+import com.commercialspace.dto.BookingDecisionRequest;
+import com.commercialspace.dto.BookingDecisionResult;
+import com.commercialspace.dto.BookingFilter;
+import com.commercialspace.dto.BookingHoldResponse;
+import com.commercialspace.dto.BookingResponse;
+import com.commercialspace.dto.CursorPage;
+import com.commercialspace.dto.OccupiedRange;
+import com.commercialspace.model.BookingStatus;
+import com.commercialspace.service.BookingHoldService;
 import com.commercialspace.service.BookingService;
+import com.commercialspace.service.IdempotencyService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
@@ -17,50 +26,124 @@ import java.util.Map;
 public class BookingController {
     @Autowired
     private BookingService bookingService;
+    @Autowired
+    private IdempotencyService idempotencyService;
+    @Autowired
+    private BookingHoldService bookingHoldService;
 
     @PostMapping
-    public ResponseEntity<Booking> createBooking(@RequestBody Map<String, Object> body, @AuthenticationPrincipal String email) {
+    public ResponseEntity<BookingResponse> createBooking(@RequestBody Map<String, Object> body, @AuthenticationPrincipal String email,
+                                                         @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey) {
         Long propertyId = Long.valueOf(body.get("propertyId").toString());
         LocalDate startDate = LocalDate.parse(body.get("startDate").toString());
         LocalDate endDate = LocalDate.parse(body.get("endDate").toString());
-        String status = body.getOrDefault("status", "PENDING").toString();
-        Booking booking = bookingService.createBooking(propertyId, email, startDate, endDate, status);
+        // Bookings always start PENDING and only the owner's decision accepts them; clients may still send "PENDING"
+        if (body.get("status") != null && BookingStatus.parse(body.get("status").toString()) != BookingStatus.PENDING) {
+            throw new IllegalArgumentException("A new booking is always PENDING until the owner accepts or rejects it");
+        }
+        Long holdId = body.get("holdId") != null ? Long.valueOf(body.get("holdId").toString()) : null;
+        if (idempotencyKey == null) {
+            return ResponseEntity.ok(bookingService.createBooking(propertyId, email, startDate, endDate, holdId));
+        }
+        // A retried request with the same key gets the first response back; no second booking or emails are created
+        BookingResponse booking = idempotencyService.execute("POST /api/bookings:" + email, idempotencyKey,
+            IdempotencyService.fingerprint(propertyId, startDate, endDate, holdId), BookingResponse.class,
+            () -> bookingService.createBooking(propertyId, email, startDate, endDate, holdId));
         return ResponseEntity.ok(booking);
     }
 
     @PostMapping("/{bookingId}/accept")
-    public ResponseEntity<Booking> acceptBookingPost(@PathVariable Long bookingId, @AuthenticationPrincipal String email) {
-        Booking booking = bookingService.acceptBooking(bookingId, email);
+    public ResponseEntity<BookingResponse> acceptBookingPost(@PathVariable Long bookingId, @AuthenticationPrincipal String email) {
+        BookingResponse booking = bookingService.acceptBooking(bookingId, email);
         return ResponseEntity.ok(booking);
     }
 
     @PutMapping("/{bookingId}/accept")
-    public ResponseEntity<Booking> acceptBookingPut(@PathVariable Long bookingId, @AuthenticationPrincipal String email) {
-        Booking booking = bookingService.acceptBooking(bookingId, email);
+    public ResponseEntity<BookingResponse> acceptBookingPut(@PathVariable Long bookingId, @AuthenticationPrincipal String email) {
+        BookingResponse booking = bookingService.acceptBooking(bookingId, email);
         return ResponseEntity.ok(booking);
     }
 
     @PostMapping("/{bookingId}/reject")
-    public ResponseEntity<Booking> rejectBookingPost(@PathVariable Long bookingId, @AuthenticationPrincipal String email) {
-        Booking booking = bookingService.rejectBooking(bookingId, email);
+    public ResponseEntity<BookingResponse> rejectBookingPost(@PathVariable Long bookingId, @AuthenticationPrincipal String email) {
+        BookingResponse booking = bookingService.rejectBooking(bookingId, email);
         return ResponseEntity.ok(booking);
     }
 
     @PutMapping("/{bookingId}/reject")
-    public ResponseEntity<Booking> rejectBookingPut(@PathVariable Long bookingId, @AuthenticationPrincipal String email) {
-        Booking booking = bookingService.rejectBooking(bookingId, email);
+    public ResponseEntity<BookingResponse> rejectBookingPut(@PathVariable Long bookingId, @AuthenticationPrincipal String email) {
+        BookingResponse booking = bookingService.rejectBooking(bookingId, email);
         return ResponseEntity.ok(booking);
     }
 
+    // Bulk accept/reject for an owner's queue: [{"bookingId": 1, "action": "ACCEPT"}, ...], one result per decision
+    @PostMapping("/decisions")
+    public ResponseEntity<List<BookingDecisionResult>> decideBookings(@RequestBody List<BookingDecisionRequest> decisions, @AuthenticationPrincipal String email) {
+        List<BookingDecisionResult> results = bookingService.decideBookings(decisions, email);
+        return ResponseEntity.ok(results);
+    }
+
+    // Reserves dates for a few minutes while the customer confirms: {"propertyId", "startDate", "endDate", "ttlSeconds"?}
+    @PostMapping("/holds")
+    public ResponseEntity<BookingHoldResponse> placeHold(@RequestBody Map<String, Object> body, @AuthenticationPrincipal String email) {
+        Long propertyId = Long.valueOf(body.get("propertyId").toString());
+        LocalDate startDate = LocalDate.parse(body.get("startDate").toString());
+        LocalDate endDate = LocalDate.parse(body.get("endDate").toString());
+        Long ttlSeconds = body.get("ttlSeconds") != null ? Long.valueOf(body.get("ttlSeconds").toString()) : null;
+        BookingHoldResponse hold = bookingHoldService.placeHold(propertyId, email, startDate, endDate, ttlSeconds);
+        return ResponseEntity.ok(hold);
+    }
+
+    @DeleteMapping("/holds/{holdId}")
+    public ResponseEntity<Void> releaseHold(@PathVariable Long holdId, @AuthenticationPrincipal String email) {
+        bookingHoldService.releaseHold(holdId, email);
+        return ResponseEntity.noContent().build();
+    }
+
+    @GetMapping("/properties/{propertyId}/calendar")
+    public ResponseEntity<List<OccupiedRange>> getOccupancyCalendar(
+            @PathVariable Long propertyId,
+            @RequestParam(value = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(value = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        List<OccupiedRange> ranges = bookingService.getOccupancyCalendar(propertyId, from, to);
+        return ResponseEntity.ok(ranges);
+    }
+
     @GetMapping("/me")
-    public ResponseEntity<List<Booking>> getMyBookings(@AuthenticationPrincipal String email) {
-        List<Booking> bookings = bookingService.getBookingsByCustomer(email);
+    public ResponseEntity<List<BookingResponse>> getMyBookings(@AuthenticationPrincipal String email) {
+        List<BookingResponse> bookings = bookingService.getBookingsByCustomer(email);
         return ResponseEntity.ok(bookings);
     }
 
+    @GetMapping("/me/history")
+    public ResponseEntity<CursorPage<BookingResponse>> getMyBookingHistory(
+            @AuthenticationPrincipal String email,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "20") int size,
+            @RequestParam(value = "status", required = false) BookingStatus status,
+            @RequestParam(value = "propertyId", required = false) Long propertyId,
+            @RequestParam(value = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(value = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        CursorPage<BookingResponse> page = bookingService.getCustomerBookingHistory(email, new BookingFilter(status, propertyId, from, to), cursor, size);
+        return ResponseEntity.ok(page);
+    }
+
+    @GetMapping("/owner/history")
+    public ResponseEntity<CursorPage<BookingResponse>> getOwnerBookingHistory(
+            @AuthenticationPrincipal String email,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "20") int size,
+            @RequestParam(value = "status", required = false) BookingStatus status,
+            @RequestParam(value = "propertyId", required = false) Long propertyId,
+            @RequestParam(value = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(value = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        CursorPage<BookingResponse> page = bookingService.getOwnerBookingHistory(email, new BookingFilter(status, propertyId, from, to), cursor, size);
+        return ResponseEntity.ok(page);
+    }
+
     @GetMapping("/owner")
-    public ResponseEntity<List<Booking>> getOwnerBookings(@AuthenticationPrincipal String email) {
-        List<Booking> bookings = bookingService.getBookingsByOwner(email);
+    public ResponseEntity<List<BookingResponse>> getOwnerBookings(@AuthenticationPrincipal String email) {
+        List<BookingResponse> bookings = bookingService.getBookingsByOwner(email);
         return ResponseEntity.ok(bookings);
     }
 } 
\ No newline at end of file
@@ -1,19 +1,28 @@
 package com.commercialspace.controller;
 
+import com.commercialspace.dto.CursorPage;
+import com.commercialspace.dto.PropertyFacetResponse;
+import com.commercialspace.dto.PropertyFilter;
 import com.commercialspace.dto.PropertyRequest;
 import com.commercialspace.dto.PropertyResponse;
 import com.commercialspace.service.PropertyService;
 import com.commercialspace.dto.ReviewRequest;
 import com.commercialspace.dto.ReviewResponse;
+import com.commercialspace.model.PropertyType;
+import com.commercialspace.service.CatalogVersionService;
 import com.commercialspace.service.ReviewService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.math.BigDecimal;
 import java.util.List;
 import java.util.Map;
 
@@ -25,19 +34,128 @@ public class PropertyController {
     private static final Logger logger = LoggerFactory.getLogger(PropertyController.class);
     private final PropertyService propertyService;
     private final ReviewService reviewService;
+    private final CatalogVersionService catalogVersionService;
 
-    public PropertyController(PropertyService propertyService, ReviewService reviewService) {
+    public PropertyController(PropertyService propertyService, ReviewService reviewService, CatalogVersionService catalogVersionService) {
         this.propertyService = propertyService;
         this.reviewService = reviewService;
+        this.catalogVersionService = catalogVersionService;
+    }
+
+    // Public reads carry the catalog version as a strong ETag. The tag is taken before any data is loaded,
+    // so a write landing mid-request leaves the client with an older tag and it simply refetches next time.
+    private static <T> ResponseEntity<T> notModified(String etag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(CacheControl.noCache()).build();
+    }
+
+    private static <T> ResponseEntity<T> okWithETag(String etag, T body) {
+        return ResponseEntity.ok().eTag(etag).cacheControl(CacheControl.noCache()).body(body);
     }
 
     @GetMapping
     @Operation(summary = "Get all verified properties (public)")
-    public ResponseEntity<List<PropertyResponse>> getAllVerifiedProperties(@RequestParam(value = "search", required = false) String search) {
+    public ResponseEntity<List<PropertyResponse>> getAllVerifiedProperties(@RequestParam(value = "search", required = false) String search, WebRequest webRequest) {
+        String etag = catalogVersionService.catalogETag();
+        if (webRequest.checkNotModified(etag)) {
+            return notModified(etag);
+        }
         logger.info("Fetching all verified properties{}", search != null ? " with search: " + search : "");
         List<PropertyResponse> properties = propertyService.getAllVerifiedProperties(search);
         logger.info("Fetched {} properties", properties.size());
-        return ResponseEntity.ok(properties);
+        return okWithETag(etag, properties);
+    }
+
+    @GetMapping("/page")
+    @Operation(summary = "Get a page of verified properties with filters (public, cursor paginated)")
+    public ResponseEntity<CursorPage<PropertyResponse>> getVerifiedPropertiesPage(
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "20") int size,
+            @RequestParam(value = "type", required = false) PropertyType type,
+            @RequestParam(value = "city", required = false) String city,
+            @RequestParam(value = "minPrice", required = false) BigDecimal minPrice,
+            @RequestParam(value = "maxPrice", required = false) BigDecimal maxPrice,
+            @RequestParam(value = "minArea", required = false) Integer minArea,
+            @RequestParam(value = "maxArea", required = false) Integer maxArea,
+            WebRequest webRequest) {
+        String etag = catalogVersionService.catalogETag();
+        if (webRequest.checkNotModified(etag)) {
+            return notModified(etag);
+        }
+        PropertyFilter filter = new PropertyFilter(type, city, minPrice, maxPrice, minArea, maxArea);
+        CursorPage<PropertyResponse> page = propertyService.getVerifiedPropertiesPage(filter, cursor, size);
+        logger.info("Fetched page of {} properties (hasMore: {})", page.getItems().size(), page.isHasMore());
+        return okWithETag(etag, page);
+    }
+
+    @GetMapping("/facets")
+    @Operation(summary = "Get verified property hits with type, city and price facet counts (public)")
+    public ResponseEntity<PropertyFacetResponse> getPropertyFacets(
+            @RequestParam(value = "search", required = false) String search,
+            @RequestParam(value = "size", defaultValue = "20") int size,
+            @RequestParam(value = "type", required = false) PropertyType type,
+            @RequestParam(value = "city", required = false) String city,
+            @RequestParam(value = "minPrice", required = false) BigDecimal minPrice,
+            @RequestParam(value = "maxPrice", required = false) BigDecimal maxPrice,
+            @RequestParam(value = "minArea", required = false) Integer minArea,
+            @RequestParam(value = "maxArea", required = false) Integer maxArea,
+            WebRequest webRequest) {
+        String etag = catalogVersionService.catalogETag();
+        if (webRequest.checkNotModified(etag)) {
+            return notModified(etag);
+        }
+        PropertyFilter filter = new PropertyFilter(type, city, minPrice, maxPrice, minArea, maxArea);
+        PropertyFacetResponse facets = propertyService.getVerifiedPropertyFacets(search, filter, size);
+        return okWithETag(etag, facets);
+    }
+
+    @GetMapping("/range")
+    @Operation(summary = "Get verified properties within price and area ranges, cheapest first (public)")
+    public ResponseEntity<List<PropertyResponse>> getPropertiesInRange(
+            @RequestParam(value = "minPrice", required = false) BigDecimal minPrice,
+            @RequestParam(value = "maxPrice", required = false) BigDecimal maxPrice,
+            @RequestParam(value = "minArea", required = false) Integer minArea,
+            @RequestParam(value = "maxArea", required = false) Integer maxArea,
+            @RequestParam(value = "limit", defaultValue = "100") int limit,
+            WebRequest webRequest) {
+        String etag = catalogVersionService.catalogETag();
+        if (webRequest.checkNotModified(etag)) {
+            return notModified(etag);
+        }
+        List<PropertyResponse> properties = propertyService.getVerifiedPropertiesInRange(minPrice, maxPrice, minArea, maxArea, limit);
+        return okWithETag(etag, properties);
+    }
+
+    @GetMapping("/geo/bounds")
+    @Operation(summary = "Get verified properties inside a map viewport (public)")
+    public ResponseEntity<List<PropertyResponse>> getPropertiesInBounds(
+            @RequestParam("minLat") double minLat,
+            @RequestParam("minLng") double minLng,
+            @RequestParam("maxLat") double maxLat,
+            @RequestParam("maxLng") double maxLng,
+            @RequestParam(value = "limit", defaultValue = "500") int limit,
+            WebRequest webRequest) {
+        String etag = catalogVersionService.catalogETag();
+        if (webRequest.checkNotModified(etag)) {
+            return notModified(etag);
+        }
+        List<PropertyResponse> properties = propertyService.getVerifiedPropertiesInBounds(minLat, minLng, maxLat, maxLng, limit);
+        return okWithETag(etag, properties);
+    }
+
+    @GetMapping("/geo/nearby")
+    @Operation(summary = "Get verified properties within a radius of a point, nearest first (public)")
+    public ResponseEntity<List<PropertyResponse>> getPropertiesNearby(
+            @RequestParam("lat") double latitude,
+            @RequestParam("lng") double longitude,
+            @RequestParam(value = "radiusKm", defaultValue = "10") double radiusKm,
+            @RequestParam(value = "limit", defaultValue = "100") int limit,
+            WebRequest webRequest) {
+        String etag = catalogVersionService.catalogETag();
+        if (webRequest.checkNotModified(etag)) {
+            return notModified(etag);
+        }
+        List<PropertyResponse> properties = propertyService.getVerifiedPropertiesNearby(latitude, longitude, radiusKm, limit);
+        return okWithETag(etag, properties);
     }
 
     @GetMapping("/all")
@@ -51,12 +169,16 @@ public class PropertyController {
 
     @GetMapping("/{id}")
     @Operation(summary = "Get property by ID")
-    public ResponseEntity<PropertyResponse> getPropertyById(@PathVariable Long id) {
+    public ResponseEntity<PropertyResponse> getPropertyById(@PathVariable Long id, WebRequest webRequest) {
+        String etag = catalogVersionService.propertyETag(id);
+        if (webRequest.checkNotModified(etag)) {
+            return notModified(etag);
+        }
         logger.info("Fetching property by ID: {}", id);
         try {
         PropertyResponse property = propertyService.getPropertyById(id);
             logger.info("Property found for ID: {}", id);
-        return ResponseEntity.ok(property);
+        return okWithETag(etag, property);
         } catch (Exception ex) {
             logger.error("Error fetching property by ID: {}", id, ex);
             return ResponseEntity.status(404).build();
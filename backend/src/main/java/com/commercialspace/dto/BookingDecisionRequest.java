@@ -0,0 +1,10 @@
+package com.commercialspace.dto;
+
+public class BookingDecisionRequest {
+    private Long bookingId;
+    private String action;
+    public Long getBookingId() { return bookingId; }
+    public void setBookingId(Long bookingId) { this.bookingId = bookingId; }
+    public String getAction() { return action; }
+    public void setAction(String action) { this.action = action; }
+}
@@ -0,0 +1,38 @@
+package com.commercialspace.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BookingDecisionResult {
+    @JsonProperty("booking_id")
+    private Long bookingId;
+    private String action;
+    private boolean success;
+    private String error;
+    private BookingResponse booking;
+
+    public static BookingDecisionResult applied(Long bookingId, String action, BookingResponse booking) {
+        BookingDecisionResult result = new BookingDecisionResult(bookingId, action);
+        result.success = true;
+        result.booking = booking;
+        return result;
+    }
+
+    public static BookingDecisionResult failed(Long bookingId, String action, String error) {
+        BookingDecisionResult result = new BookingDecisionResult(bookingId, action);
+        result.error = error;
+        return result;
+    }
+
+    private BookingDecisionResult(Long bookingId, String action) {
+        this.bookingId = bookingId;
+        this.action = action;
+    }
+
+    public Long getBookingId() { return bookingId; }
+    public String getAction() { return action; }
+    public boolean isSuccess() { return success; }
+    public String getError() { return error; }
+    public BookingResponse getBooking() { return booking; }
+}
@@ -0,0 +1,28 @@
+package com.commercialspace.dto;
+
+import com.commercialspace.model.BookingStatus;
+
+import java.time.LocalDate;
+
+// Booking history filters; from/to match bookings whose stay overlaps that date range
+public class BookingFilter {
+    private final BookingStatus status;
+    private final Long propertyId;
+    private final LocalDate from;
+    private final LocalDate to;
+
+    public BookingFilter(BookingStatus status, Long propertyId, LocalDate from, LocalDate to) {
+        if (from != null && to != null && to.isBefore(from)) {
+            throw new IllegalArgumentException("'to' must not be before 'from'");
+        }
+        this.status = status;
+        this.propertyId = propertyId;
+        this.from = from;
+        this.to = to;
+    }
+
+    public BookingStatus getStatus() { return status; }
+    public Long getPropertyId() { return propertyId; }
+    public LocalDate getFrom() { return from; }
+    public LocalDate getTo() { return to; }
+}
@@ -0,0 +1,33 @@
+package com.commercialspace.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+public class BookingHoldResponse {
+    @JsonProperty("hold_id")
+    private Long holdId;
+    @JsonProperty("property_id")
+    private Long propertyId;
+    @JsonProperty("start_date")
+    private LocalDate startDate;
+    @JsonProperty("end_date")
+    private LocalDate endDate;
+    @JsonProperty("expires_at")
+    private Instant expiresAt;
+
+    public BookingHoldResponse(Long holdId, Long propertyId, LocalDate startDate, LocalDate endDate, Instant expiresAt) {
+        this.holdId = holdId;
+        this.propertyId = propertyId;
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.expiresAt = expiresAt;
+    }
+
+    public Long getHoldId() { return holdId; }
+    public Long getPropertyId() { return propertyId; }
+    public LocalDate getStartDate() { return startDate; }
+    public LocalDate getEndDate() { return endDate; }
+    public Instant getExpiresAt() { return expiresAt; }
+}
@@ -0,0 +1,123 @@
+package com.commercialspace.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import com.commercialspace.model.BookingStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+// Booking as shown on the customer and owner dashboards; field names follow the original entity JSON
+public class BookingResponse {
+    private Long id;
+    @JsonProperty("property_id")
+    private Long propertyId;
+    private PropertySummary property;
+    private UserSummary customer;
+    private UserSummary owner;
+    private String status;
+    @JsonProperty("start_date")
+    private LocalDate startDate;
+    @JsonProperty("end_date")
+    private LocalDate endDate;
+    @JsonProperty("created_at")
+    private LocalDateTime createdAt;
+    @JsonProperty("total_price")
+    private Double totalPrice;
+    private Long days;
+    private Double months;
+
+    public static class PropertySummary {
+        private Long id;
+        private String title;
+        private String address;
+        private String city;
+        private BigDecimal price;
+        private String photoUrl;
+
+        PropertySummary() {}
+
+        public PropertySummary(Long id, String title, String address, String city, BigDecimal price, String photoUrl) {
+            this.id = id;
+            this.title = title;
+            this.address = address;
+            this.city = city;
+            this.price = price;
+            this.photoUrl = photoUrl;
+        }
+
+        public Long getId() { return id; }
+        public String getTitle() { return title; }
+        public String getAddress() { return address; }
+        public String getCity() { return city; }
+        public BigDecimal getPrice() { return price; }
+        public String getPhotoUrl() { return photoUrl; }
+    }
+
+    public static class UserSummary {
+        private Long id;
+        private String name;
+        private String email;
+
+        UserSummary() {}
+
+        public UserSummary(Long id, String name, String email) {
+            this.id = id;
+            this.name = name;
+            this.email = email;
+        }
+
+        public Long getId() { return id; }
+        public String getName() { return name; }
+        public String getEmail() { return email; }
+    }
+
+    public BookingResponse() {}
+
+    // Used by the JPQL constructor expression in BookingRepository
+    public BookingResponse(Long id, Long propertyId, String propertyTitle, String propertyAddress, String propertyCity,
+                           BigDecimal propertyPrice, String propertyPhotoUrl,
+                           Long customerId, String customerName, String customerEmail,
+                           Long ownerId, String ownerName, String ownerEmail,
+                           BookingStatus status, LocalDate startDate, LocalDate endDate, LocalDateTime createdAt,
+                           BigDecimal totalPrice, Integer days, Integer months) {
+        this.id = id;
+        this.propertyId = propertyId;
+        this.property = new PropertySummary(propertyId, propertyTitle, propertyAddress, propertyCity, propertyPrice, propertyPhotoUrl);
+        this.customer = new UserSummary(customerId, customerName, customerEmail);
+        this.owner = new UserSummary(ownerId, ownerName, ownerEmail);
+        this.status = status != null ? status.name() : null;
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.createdAt = createdAt;
+        this.totalPrice = totalPrice != null ? totalPrice.doubleValue() : 0.0;
+        this.days = days != null ? days.longValue() : 0L;
+        this.months = months != null ? months.doubleValue() : 0.0;
+    }
+
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    public Long getPropertyId() { return propertyId; }
+    public void setPropertyId(Long propertyId) { this.propertyId = propertyId; }
+    public PropertySummary getProperty() { return property; }
+    public void setProperty(PropertySummary property) { this.property = property; }
+    public UserSummary getCustomer() { return customer; }
+    public void setCustomer(UserSummary customer) { this.customer = customer; }
+    public UserSummary getOwner() { return owner; }
+    public void setOwner(UserSummary owner) { this.owner = owner; }
+    public String getStatus() { return status; }
+    public void setStatus(String status) { this.status = status; }
+    public LocalDate getStartDate() { return startDate; }
+    public void setStartDate(LocalDate startDate) { this.startDate = startDate; }
+    public LocalDate getEndDate() { return endDate; }
+    public void setEndDate(LocalDate endDate) { this.endDate = endDate; }
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+    public Double getTotalPrice() { return totalPrice; }
+    public void setTotalPrice(Double totalPrice) { this.totalPrice = totalPrice; }
+    public Long getDays() { return days; }
+    public void setDays(Long days) { this.days = days; }
+    public Double getMonths() { return months; }
+    public void setMonths(Double months) { this.months = months; }
+}
@@ -0,0 +1,42 @@
+package com.commercialspace.dto;
+
+import java.util.List;
+import java.util.Map;
+
+public class PropertyFacetResponse {
+    private List<PropertyResponse> items;
+    private int total;
+    private Map<String, Long> types;
+    private Map<String, Long> cities;
+    private List<PriceRange> priceRanges;
+
+    public static class PriceRange {
+        private Double min;
+        private Double max;
+        private long count;
+
+        public PriceRange(Double min, Double max, long count) {
+            this.min = min;
+            this.max = max;
+            this.count = count;
+        }
+
+        public Double getMin() { return min; }
+        public Double getMax() { return max; }
+        public long getCount() { return count; }
+    }
+
+    public PropertyFacetResponse(List<PropertyResponse> items, int total, Map<String, Long> types, Map<String, Long> cities, List<PriceRange> priceRanges) {
+        this.items = items;
+        this.total = total;
+        this.types = types;
+        this.cities = cities;
+        this.priceRanges = priceRanges;
+    }
+
+    public List<PropertyResponse> getItems() { return items; }
+    public int getTotal() { return total; }
+    public Map<String, Long> getTypes() { return types; }
+    public Map<String, Long> getCities() { return cities; }
+    public List<PriceRange> getPriceRanges() { return priceRanges; }
+}
@@ -0,0 +1,30 @@
+package com.commercialspace.dto;
+
+import com.commercialspace.model.PropertyType;
+
+import java.math.BigDecimal;
+
+public class PropertyFilter {
+    private final PropertyType type;
+    private final String city;
+    private final BigDecimal minPrice;
+    private final BigDecimal maxPrice;
+    private final Integer minArea;
+    private final Integer maxArea;
+
+    public PropertyFilter(PropertyType type, String city, BigDecimal minPrice, BigDecimal maxPrice, Integer minArea, Integer maxArea) {
+        this.type = type;
+        this.city = city == null || city.isBlank() ? null : city.trim();
+        this.minPrice = minPrice;
+        this.maxPrice = maxPrice;
+        this.minArea = minArea;
+        this.maxArea = maxArea;
+    }
+
+    public PropertyType getType() { return type; }
+    public String getCity() { return city; }
+    public BigDecimal getMinPrice() { return minPrice; }
+    public BigDecimal getMaxPrice() { return maxPrice; }
+    public Integer getMinArea() { return minArea; }
+    public Integer getMaxArea() { return maxArea; }
+}
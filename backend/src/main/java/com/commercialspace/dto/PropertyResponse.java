@@ -29,6 +29,31 @@ public class PropertyResponse {
 
     public PropertyResponse() {
     }
+
+    // Used by JPQL constructor expressions; rating columns are null when a property has no reviews yet
+    public PropertyResponse(Long id, String title, String description, String address, String city, String state, String country,
+                            BigDecimal price, boolean verified, PropertyType type, Integer area, Double latitude, Double longitude,
+                            String photoUrl, String ownerEmail, String ownerName, Long reviewCount, Long ratingSum) {
+        this.id = id;
+        this.title = title;
+        this.description = description;
+        this.address = address;
+        this.city = city;
+        this.state = state;
+        this.country = country;
+        this.price = price.doubleValue();
+        this.verified = verified;
+        this.type = type;
+        this.area = area;
+        this.latitude = latitude;
+        this.longitude = longitude;
+        this.photoUrl = photoUrl;
+        this.ownerEmail = ownerEmail;
+        this.ownerName = ownerName;
+        long count = reviewCount != null ? reviewCount : 0L;
+        this.reviewCount = (int) count;
+        this.averageRating = count == 0 ? 0.0 : (double) ratingSum / count;
+    }
     public String getPhotoUrl() {
         return photoUrl;
     }
@@ -0,0 +1,53 @@
+package com.commercialspace.event;
+
+import com.commercialspace.model.Booking;
+import com.commercialspace.model.BookingStatus;
+import com.commercialspace.model.PropertyType;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+// Published by the booking write paths with the booking's state before and after the change (before is null for a
+// new booking); listeners run after the surrounding transaction commits
+public class BookingChangedEvent {
+
+    // The fields analytics aggregates are keyed on, captured while the booking is still attached
+    public static final class Snapshot {
+        private final BookingStatus status;
+        private final BigDecimal totalPrice;
+        private final LocalDate createdDate;
+        private final PropertyType propertyType;
+
+        private Snapshot(BookingStatus status, BigDecimal totalPrice, LocalDate createdDate, PropertyType propertyType) {
+            this.status = status;
+            this.totalPrice = totalPrice;
+            this.createdDate = createdDate;
+            this.propertyType = propertyType;
+        }
+
+        public static Snapshot of(Booking booking) {
+            return new Snapshot(booking.getStatus(), booking.getTotalPriceAmount(),
+                booking.getCreatedAt() != null ? booking.getCreatedAt().toLocalDate() : null,
+                booking.getProperty() != null ? booking.getProperty().getType() : null);
+        }
+
+        public BookingStatus getStatus() { return status; }
+        public BigDecimal getTotalPrice() { return totalPrice; }
+        public LocalDate getCreatedDate() { return createdDate; }
+        public PropertyType getPropertyType() { return propertyType; }
+    }
+
+    private final Long bookingId;
+    private final Snapshot before;
+    private final Snapshot after;
+
+    public BookingChangedEvent(Long bookingId, Snapshot before, Snapshot after) {
+        this.bookingId = bookingId;
+        this.before = before;
+        this.after = after;
+    }
+
+    public Long getBookingId() { return bookingId; }
+    public Snapshot getBefore() { return before; }
+    public Snapshot getAfter() { return after; }
+}
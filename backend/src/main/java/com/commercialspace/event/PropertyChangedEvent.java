@@ -0,0 +1,35 @@
+package com.commercialspace.event;
+
+import com.commercialspace.model.Property;
+
+// Published by the property write paths; listeners run after the surrounding transaction commits
+public class PropertyChangedEvent {
+
+    public enum Change {
+        CREATED,
+        VERIFICATION_CHANGED,
+        REVIEW_ADDED,
+        // The owner's name changed; only rendered responses and ETags are affected
+        OWNER_UPDATED
+    }
+
+    private final Property property;
+    private final Change change;
+    // For VERIFICATION_CHANGED: the flag before the change, so listeners can move counts between buckets
+    private final boolean previouslyVerified;
+
+    public PropertyChangedEvent(Property property, Change change) {
+        this(property, change, property.isVerified());
+    }
+
+    public PropertyChangedEvent(Property property, Change change, boolean previouslyVerified) {
+        this.property = property;
+        this.change = change;
+        this.previouslyVerified = previouslyVerified;
+    }
+
+    public Property getProperty() { return property; }
+    public Long getPropertyId() { return property.getId(); }
+    public Change getChange() { return change; }
+    public boolean wasPreviouslyVerified() { return previouslyVerified; }
+}
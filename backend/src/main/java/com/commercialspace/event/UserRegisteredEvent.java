@@ -0,0 +1,23 @@
+package com.commercialspace.event;
+
+import com.commercialspace.model.User;
+
+import java.time.LocalDateTime;
+
+// Published when a new account is saved
+public class UserRegisteredEvent {
+
+    private final Long userId;
+    private final User.Role role;
+    private final LocalDateTime createdAt;
+
+    public UserRegisteredEvent(Long userId, User.Role role, LocalDateTime createdAt) {
+        this.userId = userId;
+        this.role = role;
+        this.createdAt = createdAt;
+    }
+
+    public Long getUserId() { return userId; }
+    public User.Role getRole() { return role; }
+    public LocalDateTime getCreatedAt() { return createdAt; }
+}
@@ -1,12 +1,22 @@
 package com.commercialspace.model;
 
 import jakarta.persistence.*;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.time.LocalDateTime;
 import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 @Entity
+@Table(indexes = {
+    @Index(name = "idx_booking_status_created", columnList = "status, created_at"),
+    // Range scans for the time-bucketed analytics series
+    @Index(name = "idx_booking_created", columnList = "created_at"),
+    // Keyset pages of one user's history walk these newest first
+    @Index(name = "idx_booking_customer_created", columnList = "customer_id, created_at, id"),
+    @Index(name = "idx_booking_owner_created", columnList = "owner_id, created_at, id")
+})
 @com.fasterxml.jackson.annotation.JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
 public class Booking {
     @Id
@@ -34,43 +44,63 @@ public class Booking {
     @JsonProperty("end_date")
     private LocalDate endDate;
 
-    @Column(nullable = false)
-    private String status; // PENDING, ACCEPTED, REJECTED
+    @Convert(converter = BookingStatusConverter.class)
+    @Column(nullable = false, length = 1, columnDefinition = "char(1)")
+    private BookingStatus status;
+
+    // Concurrent decisions on the same booking fail at commit instead of silently overwriting each other
+    @Version
+    @com.fasterxml.jackson.annotation.JsonIgnore
+    private Long version;
 
     @JsonProperty("created_at")
     private LocalDateTime createdAt = LocalDateTime.now();
 
-    // Calculate total price based on monthly rate and duration
+    // Pricing is fixed when the booking is created and again when it is accepted, so reads never touch the property
+    @Column(name = "total_price", precision = 14, scale = 2)
+    private BigDecimal totalPrice;
+
+    @Column(name = "duration_days")
+    private Integer days;
+
+    @Column(name = "duration_months")
+    private Integer months;
+
+    // Bills every started 30-day period at the property's monthly rate; both start and end dates count
+    public void updatePricing() {
+        if (startDate == null || endDate == null || property == null || property.getPrice() == null) {
+            return;
+        }
+        int totalDays = (int) ChronoUnit.DAYS.between(startDate, endDate) + 1;
+        int totalMonths = (int) Math.ceil(totalDays / 30.0);
+        this.days = totalDays;
+        this.months = totalMonths;
+        this.totalPrice = property.getPrice().multiply(BigDecimal.valueOf(totalMonths)).setScale(2, RoundingMode.HALF_UP);
+    }
+
     @JsonProperty("total_price")
     public Double getTotalPrice() {
-        if (startDate == null || endDate == null || property == null) {
-            return 0.0;
-        }
-        long days = ChronoUnit.DAYS.between(startDate, endDate) + 1; // Include both start and end dates
-        // Calculate months (including partial months)
-        double months = Math.ceil(days / 30.0); // Round up to the nearest month
-        return property.getPrice().multiply(java.math.BigDecimal.valueOf(months)).doubleValue();
+        return totalPrice != null ? totalPrice.doubleValue() : 0.0;
     }
 
-    // Calculate number of days
     @JsonProperty("days")
     public Long getDays() {
-        if (startDate == null || endDate == null) {
-            return 0L;
-        }
-        return ChronoUnit.DAYS.between(startDate, endDate) + 1; // Include both start and end dates
+        return days != null ? days.longValue() : 0L;
     }
 
-    // Calculate number of months (for display)
     @JsonProperty("months")
     public Double getMonths() {
-        if (startDate == null || endDate == null) {
-            return 0.0;
-        }
-        long days = ChronoUnit.DAYS.between(startDate, endDate) + 1;
-        return Math.ceil(days / 30.0); // Round up to the nearest month
+        return months != null ? months.doubleValue() : 0.0;
     }
 
+    // Raw persisted values for mapping into DTOs
+    @com.fasterxml.jackson.annotation.JsonIgnore
+    public BigDecimal getTotalPriceAmount() { return totalPrice; }
+    @com.fasterxml.jackson.annotation.JsonIgnore
+    public Integer getDurationDays() { return days; }
+    @com.fasterxml.jackson.annotation.JsonIgnore
+    public Integer getDurationMonths() { return months; }
+
     // Getters and setters
     public Long getId() { return id; }
     public void setId(Long id) { this.id = id; }
@@ -84,8 +114,9 @@ public class Booking {
     public void setStartDate(LocalDate startDate) { this.startDate = startDate; }
     public LocalDate getEndDate() { return endDate; }
     public void setEndDate(LocalDate endDate) { this.endDate = endDate; }
-    public String getStatus() { return status; }
-    public void setStatus(String status) { this.status = status; }
+    public BookingStatus getStatus() { return status; }
+    public void setStatus(BookingStatus status) { this.status = status; }
+    public Long getVersion() { return version; }
     public LocalDateTime getCreatedAt() { return createdAt; }
     public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
 } 
\ No newline at end of file
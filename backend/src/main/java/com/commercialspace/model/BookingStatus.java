@@ -0,0 +1,44 @@
+package com.commercialspace.model;
+
+// Booking lifecycle. Stored as a one-character code (see BookingStatusConverter); the JSON keeps the full name.
+public enum BookingStatus {
+    PENDING('P'),
+    ACCEPTED('A'),
+    REJECTED('R');
+
+    private final char code;
+
+    BookingStatus(char code) {
+        this.code = code;
+    }
+
+    public char getCode() {
+        return code;
+    }
+
+    // Only a pending request can be decided; accepted and rejected bookings are final
+    public boolean canTransitionTo(BookingStatus next) {
+        return this == PENDING && (next == ACCEPTED || next == REJECTED);
+    }
+
+    public static BookingStatus fromCode(char code) {
+        for (BookingStatus status : values()) {
+            if (status.code == code) {
+                return status;
+            }
+        }
+        throw new IllegalArgumentException("Unknown booking status code: " + code);
+    }
+
+    // Parses API input such as "pending"; unknown values are a bad request
+    public static BookingStatus parse(String value) {
+        if (value == null) {
+            throw new IllegalArgumentException("Booking status is required");
+        }
+        try {
+            return valueOf(value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid booking status: " + value);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.commercialspace.model;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+@Converter
+public class BookingStatusConverter implements AttributeConverter<BookingStatus, String> {
+
+    @Override
+    public String convertToDatabaseColumn(BookingStatus status) {
+        return status != null ? String.valueOf(status.getCode()) : null;
+    }
+
+    @Override
+    public BookingStatus convertToEntityAttribute(String code) {
+        return code != null && !code.isEmpty() ? BookingStatus.fromCode(code.charAt(0)) : null;
+    }
+}
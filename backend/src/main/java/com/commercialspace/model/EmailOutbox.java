@@ -0,0 +1,92 @@
+package com.commercialspace.model;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+// Outgoing email written in the same transaction as the change that triggers it and delivered by EmailOutboxService
+@Entity
+@Table(name = "email_outbox", indexes = {
+    @Index(name = "idx_email_outbox_due", columnList = "status, next_attempt_at"),
+    @Index(name = "idx_email_outbox_claim", columnList = "claim_token")
+})
+public class EmailOutbox {
+
+    public enum Status {
+        PENDING,
+        // Claimed by a dispatcher until nextAttemptAt; an expired claim is picked up again
+        SENDING,
+        SENT,
+        FAILED
+    }
+
+    // Attachments are rendered at delivery time from the referenced booking rather than stored
+    public enum Attachment {
+        NONE,
+        LEASE_AGREEMENT
+    }
+
+    // Pooled table ids instead of IDENTITY so Hibernate can batch the inserts of a bulk enqueue
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "email_outbox_ids")
+    @TableGenerator(name = "email_outbox_ids", table = "id_generators", pkColumnValue = "email_outbox", allocationSize = 50)
+    private Long id;
+
+    @Column(nullable = false)
+    private String recipient;
+
+    @Column(nullable = false)
+    private String subject;
+
+    @Lob
+    @Column(nullable = false)
+    private String htmlBody;
+
+    private Long bookingId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Attachment attachment = Attachment.NONE;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private Status status = Status.PENDING;
+
+    private int attempts;
+    private LocalDateTime nextAttemptAt = LocalDateTime.now();
+
+    @Column(name = "claim_token", length = 36)
+    private String claimToken;
+
+    @Column(length = 1000)
+    private String lastError;
+
+    private LocalDateTime createdAt = LocalDateTime.now();
+    private LocalDateTime sentAt;
+
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    public String getRecipient() { return recipient; }
+    public void setRecipient(String recipient) { this.recipient = recipient; }
+    public String getSubject() { return subject; }
+    public void setSubject(String subject) { this.subject = subject; }
+    public String getHtmlBody() { return htmlBody; }
+    public void setHtmlBody(String htmlBody) { this.htmlBody = htmlBody; }
+    public Long getBookingId() { return bookingId; }
+    public void setBookingId(Long bookingId) { this.bookingId = bookingId; }
+    public Attachment getAttachment() { return attachment; }
+    public void setAttachment(Attachment attachment) { this.attachment = attachment; }
+    public Status getStatus() { return status; }
+    public void setStatus(Status status) { this.status = status; }
+    public int getAttempts() { return attempts; }
+    public void setAttempts(int attempts) { this.attempts = attempts; }
+    public LocalDateTime getNextAttemptAt() { return nextAttemptAt; }
+    public void setNextAttemptAt(LocalDateTime nextAttemptAt) { this.nextAttemptAt = nextAttemptAt; }
+    public String getLastError() { return lastError; }
+    public void setLastError(String lastError) { this.lastError = lastError; }
+    public String getClaimToken() { return claimToken; }
+    public void setClaimToken(String claimToken) { this.claimToken = claimToken; }
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+    public LocalDateTime getSentAt() { return sentAt; }
+    public void setSentAt(LocalDateTime sentAt) { this.sentAt = sentAt; }
+}
@@ -0,0 +1,56 @@
+package com.commercialspace.model;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+// A completed idempotent request: the first response is replayed for retries carrying the same key until it expires
+@Entity
+@Table(name = "idempotency_keys", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_idempotency_scope_key", columnNames = { "scope", "idempotency_key" })
+}, indexes = {
+    @Index(name = "idx_idempotency_expires", columnList = "expires_at")
+})
+public class IdempotencyKey {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // Operation and caller, e.g. "POST /api/bookings:user@example.com"; keys are only unique within a scope
+    @Column(nullable = false)
+    private String scope;
+
+    @Column(name = "idempotency_key", nullable = false)
+    private String key;
+
+    // Hash of the request payload, so a reused key with a different body is rejected instead of replayed
+    @Column(nullable = false, length = 64)
+    private String fingerprint;
+
+    @Lob
+    @Column(nullable = false)
+    private String responseBody;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt = LocalDateTime.now();
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    public IdempotencyKey() {}
+
+    public IdempotencyKey(String scope, String key, String fingerprint, String responseBody, LocalDateTime expiresAt) {
+        this.scope = scope;
+        this.key = key;
+        this.fingerprint = fingerprint;
+        this.responseBody = responseBody;
+        this.expiresAt = expiresAt;
+    }
+
+    public Long getId() { return id; }
+    public String getScope() { return scope; }
+    public String getKey() { return key; }
+    public String getFingerprint() { return fingerprint; }
+    public String getResponseBody() { return responseBody; }
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public LocalDateTime getExpiresAt() { return expiresAt; }
+}
@@ -2,10 +2,17 @@ package com.commercialspace.model;
 
 import jakarta.persistence.*;
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 
 @Entity
 @com.fasterxml.jackson.annotation.JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
-@Table(name = "properties")
+@Table(name = "properties", indexes = {
+    @Index(name = "idx_properties_verified_id", columnList = "verified, id"),
+    @Index(name = "idx_properties_verified_type", columnList = "verified, type, id"),
+    @Index(name = "idx_properties_verified_city", columnList = "verified, city, id"),
+    // Range scans for the windowed admin analytics
+    @Index(name = "idx_properties_created", columnList = "created_at")
+})
 public class Property {
 
     @Id
@@ -39,6 +46,9 @@ public class Property {
     private Double latitude;
     private Double longitude;
 
+    @Column(name = "created_at", updatable = false)
+    private LocalDateTime createdAt = LocalDateTime.now();
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "owner_id", nullable = false)
     @com.fasterxml.jackson.annotation.JsonBackReference
@@ -100,4 +110,7 @@ public class Property {
 
     public User getOwner() { return owner; }
     public void setOwner(User owner) { this.owner = owner; }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
 }
@@ -0,0 +1,45 @@
+package com.commercialspace.model;
+
+import jakarta.persistence.*;
+
+// Running review aggregate per property, maintained by ReviewService.addReview
+@Entity
+@Table(name = "property_rating_stats")
+public class PropertyRatingStats {
+
+    @Id
+    @Column(name = "property_id")
+    private Long propertyId;
+
+    private long reviewCount;
+    private long ratingSum;
+
+    // Histogram of ratings 1..5
+    private long rating1;
+    private long rating2;
+    private long rating3;
+    private long rating4;
+    private long rating5;
+
+    public PropertyRatingStats() {}
+
+    public double getAverageRating() {
+        return reviewCount == 0 ? 0.0 : (double) ratingSum / reviewCount;
+    }
+
+    public long[] getHistogram() {
+        return new long[] { rating1, rating2, rating3, rating4, rating5 };
+    }
+
+    public Long getPropertyId() { return propertyId; }
+    public void setPropertyId(Long propertyId) { this.propertyId = propertyId; }
+    public long getReviewCount() { return reviewCount; }
+    public void setReviewCount(long reviewCount) { this.reviewCount = reviewCount; }
+    public long getRatingSum() { return ratingSum; }
+    public void setRatingSum(long ratingSum) { this.ratingSum = ratingSum; }
+    public long getRating1() { return rating1; }
+    public long getRating2() { return rating2; }
+    public long getRating3() { return rating3; }
+    public long getRating4() { return rating4; }
+    public long getRating5() { return rating5; }
+}
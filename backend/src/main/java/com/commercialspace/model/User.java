@@ -1,12 +1,16 @@
 package com.commercialspace.model;
 
 import jakarta.persistence.*;
+import java.time.LocalDateTime;
 import java.util.HashSet;
 import java.util.Set;
 
 @Entity
 @com.fasterxml.jackson.annotation.JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
-@Table(name = "users")
+@Table(name = "users", indexes = {
+    // Range scans for the windowed admin analytics
+    @Index(name = "idx_users_created", columnList = "created_at")
+})
 public class User {
 
     public enum Role {
@@ -33,6 +37,9 @@ public class User {
     @Column(name = "image_url")
     private String imageUrl;
 
+    @Column(name = "created_at", updatable = false)
+    private LocalDateTime createdAt = LocalDateTime.now();
+
     @OneToMany(mappedBy = "owner", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     @com.fasterxml.jackson.annotation.JsonBackReference
     private Set<Property> properties = new HashSet<>();
@@ -76,4 +83,7 @@ public class User {
     public Set<Property> getProperties() { return properties; }
 
     public void setProperties(Set<Property> properties) { this.properties = properties; }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
 }
@@ -1,11 +1,135 @@
 package com.commercialspace.repository;
 
+import com.commercialspace.dto.BookingResponse;
 import com.commercialspace.model.Booking;
+import com.commercialspace.model.BookingStatus;
 import com.commercialspace.model.User;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface BookingRepository extends JpaRepository<Booking, Long> {
     List<Booking> findByCustomer(User customer);
     List<Booking> findByOwner(User owner);
-} 
\ No newline at end of file
+
+    // Dashboard rows in a single select: the joined columns go straight into the DTO, no entities are loaded
+    String RESPONSE_PROJECTION = "select new com.commercialspace.dto.BookingResponse("
+        + "b.id, p.id, p.title, p.address, p.city, p.price, p.photoUrl, c.id, c.name, c.email, o.id, o.name, o.email,"
+        + " b.status, b.startDate, b.endDate, b.createdAt, b.totalPrice, b.days, b.months)"
+        + " from Booking b join b.property p join b.customer c join b.owner o ";
+
+    @Query(RESPONSE_PROJECTION + "where c.email = :email order by b.createdAt desc, b.id desc")
+    List<BookingResponse> findResponsesByCustomerEmail(@Param("email") String email);
+
+    @Query(RESPONSE_PROJECTION + "where o.email = :email order by b.createdAt desc, b.id desc")
+    List<BookingResponse> findResponsesByOwnerEmail(@Param("email") String email);
+
+    // Keyset filters shared by the history pages: rows strictly after the cursor in (createdAt desc, id desc) order
+    String HISTORY_FILTERS = " and (:afterCreatedAt is null or b.createdAt < :afterCreatedAt"
+        + " or (b.createdAt = :afterCreatedAt and b.id < :afterId))"
+        + " and (:status is null or b.status = :status)"
+        + " and (:propertyId is null or p.id = :propertyId)"
+        + " and (:from is null or b.endDate >= :from)"
+        + " and (:to is null or b.startDate <= :to)"
+        + " order by b.createdAt desc, b.id desc";
+
+    // The Pageable only carries the limit, so no count query is issued
+    @Query(RESPONSE_PROJECTION + "where b.customer.id = :userId" + HISTORY_FILTERS)
+    List<BookingResponse> findCustomerHistoryPage(@Param("userId") Long userId,
+                                                  @Param("afterCreatedAt") LocalDateTime afterCreatedAt,
+                                                  @Param("afterId") Long afterId,
+                                                  @Param("status") BookingStatus status,
+                                                  @Param("propertyId") Long propertyId,
+                                                  @Param("from") LocalDate from,
+                                                  @Param("to") LocalDate to,
+                                                  Pageable pageable);
+
+    @Query(RESPONSE_PROJECTION + "where b.owner.id = :userId" + HISTORY_FILTERS)
+    List<BookingResponse> findOwnerHistoryPage(@Param("userId") Long userId,
+                                               @Param("afterCreatedAt") LocalDateTime afterCreatedAt,
+                                               @Param("afterId") Long afterId,
+                                               @Param("status") BookingStatus status,
+                                               @Param("propertyId") Long propertyId,
+                                               @Param("from") LocalDate from,
+                                               @Param("to") LocalDate to,
+                                               Pageable pageable);
+
+    @Query(RESPONSE_PROJECTION + "where b.id = :id")
+    Optional<BookingResponse> findResponseById(@Param("id") Long id);
+
+    // Bookings for a bulk decision with everything the checks, emails and responses read, in one select. The rows stay
+    // locked until the decision commits, so a concurrent single accept or reject cannot make the batched update stale.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM Booking b JOIN FETCH b.property JOIN FETCH b.customer JOIN FETCH b.owner WHERE b.id IN :ids")
+    List<Booking> findAllWithPartiesByIdIn(@Param("ids") Collection<Long> ids);
+
+    // Rows of [bookingId, propertyId, startDate, endDate, status] for seeding the availability index
+    @Query("SELECT b.id, b.property.id, b.startDate, b.endDate, b.status FROM Booking b WHERE b.status IN :statuses")
+    List<Object[]> findRangesByStatusIn(@Param("statuses") Collection<BookingStatus> statuses);
+
+    // Bookings saved before pricing was persisted; the property is fetched because the backfill prices from it
+    @Query("SELECT b FROM Booking b JOIN FETCH b.property WHERE b.totalPrice IS NULL AND b.startDate IS NOT NULL AND b.endDate IS NOT NULL"
+        + " AND b.property.price IS NOT NULL ORDER BY b.id")
+    List<Booking> findUnpriced(Pageable pageable);
+
+    // Rows of [status, propertyType, bookingCount, revenue, pricedCount] for reconciling the analytics aggregates
+    @Query("SELECT b.status, p.type, COUNT(b), SUM(b.totalPrice), COUNT(b.totalPrice) FROM Booking b LEFT JOIN b.property p"
+        + " GROUP BY b.status, p.type")
+    List<Object[]> aggregateByStatusAndPropertyType();
+
+    // Rows of [createdDate, status, propertyType, bookingCount, revenue, pricedCount] for bookings created since the given time
+    @Query("SELECT cast(b.createdAt as LocalDate), b.status, p.type, COUNT(b), SUM(b.totalPrice), COUNT(b.totalPrice)"
+        + " FROM Booking b LEFT JOIN b.property p WHERE b.createdAt >= :since"
+        + " GROUP BY cast(b.createdAt as LocalDate), b.status, p.type")
+    List<Object[]> aggregateByCreatedDateStatusAndPropertyType(@Param("since") LocalDateTime since);
+
+    // Creation times since the given time, to seed the realtime activity counters on startup
+    @Query("SELECT b.createdAt FROM Booking b WHERE b.createdAt >= :since")
+    List<LocalDateTime> findCreatedAtSince(@Param("since") LocalDateTime since);
+
+    // Rows of [status, propertyType, bookingCount, revenue, pricedCount] for bookings created in [from, to)
+    @Query("SELECT b.status, p.type, COUNT(b), SUM(b.totalPrice), COUNT(b.totalPrice) FROM Booking b LEFT JOIN b.property p"
+        + " WHERE b.createdAt >= :from AND b.createdAt < :to GROUP BY b.status, p.type")
+    List<Object[]> aggregateByStatusAndPropertyTypeCreatedBetween(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    // Time-bucketed series: creation time is shifted into the caller's time zone and counted in whole units from an
+    // anchor aligned to a bucket start. The bucket is computed in a derived table so GROUP BY names a plain column
+    // rather than repeating a parameterised expression, and the range filter stays on the raw column for idx_booking_created.
+    String SHIFTED_CREATED_AT = "timestampadd(minute, :offsetMinutes, b.createdAt)";
+    String SERIES_SELECT = "SELECT s.bucket, COUNT(*), SUM(s.revenue) FROM (SELECT ";
+    String SERIES_GROUPING = " AS bucket, CASE WHEN b.status = :accepted THEN b.totalPrice ELSE 0 END AS revenue"
+        + " FROM Booking b WHERE b.createdAt >= :from AND b.createdAt < :to) s GROUP BY s.bucket";
+    String DAY_BUCKET = "timestampdiff(day, :anchor, " + SHIFTED_CREATED_AT + ")";
+
+    // Rows of [bucketIndex, bookingCount, acceptedRevenue]
+    @Query(SERIES_SELECT + DAY_BUCKET + SERIES_GROUPING)
+    List<Object[]> seriesByDay(@Param("anchor") LocalDateTime anchor,
+                               @Param("offsetMinutes") int offsetMinutes,
+                               @Param("from") LocalDateTime from,
+                               @Param("to") LocalDateTime to,
+                               @Param("accepted") BookingStatus accepted);
+
+    // Rows of [bucketIndex, bookingCount, acceptedRevenue]; the anchor must be a Monday
+    @Query(SERIES_SELECT + "floor(" + DAY_BUCKET + " / 7)" + SERIES_GROUPING)
+    List<Object[]> seriesByWeek(@Param("anchor") LocalDateTime anchor,
+                                @Param("offsetMinutes") int offsetMinutes,
+                                @Param("from") LocalDateTime from,
+                                @Param("to") LocalDateTime to,
+                                @Param("accepted") BookingStatus accepted);
+
+    // Rows of [bucketIndex, bookingCount, acceptedRevenue]; the anchor must be the first of a month
+    @Query(SERIES_SELECT + "timestampdiff(month, :anchor, " + SHIFTED_CREATED_AT + ")" + SERIES_GROUPING)
+    List<Object[]> seriesByMonth(@Param("anchor") LocalDateTime anchor,
+                                 @Param("offsetMinutes") int offsetMinutes,
+                                 @Param("from") LocalDateTime from,
+                                 @Param("to") LocalDateTime to,
+                                 @Param("accepted") BookingStatus accepted);
+}
@@ -0,0 +1,37 @@
+package com.commercialspace.repository;
+
+import com.commercialspace.model.EmailOutbox;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface EmailOutboxRepository extends JpaRepository<EmailOutbox, Long> {
+
+    // Ids of rows ready to send: pending ones that are due and claims whose lease has run out
+    @Query("SELECT e.id FROM EmailOutbox e WHERE e.status IN :statuses AND e.nextAttemptAt <= :now ORDER BY e.nextAttemptAt, e.id")
+    List<Long> findDueIds(@Param("statuses") Collection<EmailOutbox.Status> statuses, @Param("now") LocalDateTime now, Pageable pageable);
+
+    // Claims the rows that are still due in one short transaction. The update re-checks the due condition row by row,
+    // so a row another dispatcher claimed first no longer matches and is skipped.
+    @Modifying
+    @Transactional
+    @Query("UPDATE EmailOutbox e SET e.status = :sending, e.claimToken = :token, e.nextAttemptAt = :leaseUntil"
+        + " WHERE e.id IN :ids AND e.status IN :statuses AND e.nextAttemptAt <= :now")
+    int claim(@Param("ids") Collection<Long> ids,
+              @Param("statuses") Collection<EmailOutbox.Status> statuses,
+              @Param("sending") EmailOutbox.Status sending,
+              @Param("token") String token,
+              @Param("leaseUntil") LocalDateTime leaseUntil,
+              @Param("now") LocalDateTime now);
+
+    List<EmailOutbox> findByClaimToken(String claimToken);
+
+    long countByStatus(EmailOutbox.Status status);
+}
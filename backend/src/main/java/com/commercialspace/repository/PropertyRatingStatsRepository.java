@@ -0,0 +1,18 @@
+package com.commercialspace.repository;
+
+import com.commercialspace.model.PropertyRatingStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface PropertyRatingStatsRepository extends JpaRepository<PropertyRatingStats, Long> {
+    // Single-statement upsert so concurrent reviews never lose an increment
+    @Modifying
+    @Query(value = "INSERT INTO property_rating_stats (property_id, review_count, rating_sum, rating1, rating2, rating3, rating4, rating5) "
+            + "VALUES (:propertyId, 1, :rating, :rating = 1, :rating = 2, :rating = 3, :rating = 4, :rating = 5) "
+            + "ON DUPLICATE KEY UPDATE review_count = review_count + 1, rating_sum = rating_sum + :rating, "
+            + "rating1 = rating1 + (:rating = 1), rating2 = rating2 + (:rating = 2), rating3 = rating3 + (:rating = 3), "
+            + "rating4 = rating4 + (:rating = 4), rating5 = rating5 + (:rating = 5)", nativeQuery = true)
+    int addRating(@Param("propertyId") Long propertyId, @Param("rating") int rating);
+}
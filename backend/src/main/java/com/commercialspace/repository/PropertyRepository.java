@@ -1,9 +1,17 @@
 package com.commercialspace.repository;
 
+import com.commercialspace.dto.PropertyResponse;
 import com.commercialspace.model.Property;
+import com.commercialspace.model.PropertyType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -11,5 +19,56 @@ public interface PropertyRepository extends JpaRepository<Property, Long> {
     List<Property> findByVerifiedTrue();
     List<Property> findByOwnerId(Long ownerId);
     List<Property> findByOwnerEmail(String ownerEmail);
-    List<Property> findByVerifiedTrueAndTitleContainingIgnoreCaseOrVerifiedTrueAndAddressContainingIgnoreCaseOrVerifiedTrueAndStateContainingIgnoreCaseOrVerifiedTrueAndCityContainingIgnoreCaseOrVerifiedTrueAndCountryContainingIgnoreCase(String title, String address, String state, String city, String country);
+
+    // Rows of [type, city, verified, count] for reconciling the analytics aggregates
+    @Query("SELECT p.type, p.city, p.verified, COUNT(p) FROM Property p GROUP BY p.type, p.city, p.verified")
+    List<Object[]> countByTypeCityAndVerified();
+
+    // Rows of [createdDate, count] for properties listed since the given time
+    @Query("SELECT cast(p.createdAt as LocalDate), COUNT(p) FROM Property p WHERE p.createdAt >= :since"
+        + " GROUP BY cast(p.createdAt as LocalDate)")
+    List<Object[]> countByCreatedDate(@Param("since") LocalDateTime since);
+
+    @Query("SELECT COUNT(p) FROM Property p WHERE p.createdAt >= :from AND p.createdAt < :to")
+    long countCreatedBetween(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    // Creation times since the given time, to seed the realtime activity counters on startup
+    @Query("SELECT p.createdAt FROM Property p WHERE p.createdAt >= :since")
+    List<LocalDateTime> findCreatedAtSince(@Param("since") LocalDateTime since);
+
+    // Read-only projection straight into PropertyResponse: owner and rating aggregate joined in one statement
+    String RESPONSE_PROJECTION = "select new com.commercialspace.dto.PropertyResponse("
+        + "p.id, p.title, p.description, p.address, p.city, p.state, p.country, p.price, p.verified, p.type, p.area,"
+        + " p.latitude, p.longitude, p.photoUrl, o.email, o.name, s.reviewCount, s.ratingSum)"
+        + " from Property p join p.owner o left join PropertyRatingStats s on s.propertyId = p.id ";
+
+    @Query(RESPONSE_PROJECTION + "where p.verified = true order by p.id")
+    List<PropertyResponse> findVerifiedResponses();
+
+    @Query(RESPONSE_PROJECTION + "order by p.id")
+    List<PropertyResponse> findAllResponses();
+
+    @Query(RESPONSE_PROJECTION + "where o.email = :ownerEmail order by p.id")
+    List<PropertyResponse> findResponsesByOwnerEmail(@Param("ownerEmail") String ownerEmail);
+
+    @Query(RESPONSE_PROJECTION + "where p.id in :ids")
+    List<PropertyResponse> findResponsesByIdIn(@Param("ids") Collection<Long> ids);
+
+    // Keyset page over verified properties; the Pageable only carries the limit, so no count query is issued
+    @Query(RESPONSE_PROJECTION + "where p.verified = true and p.id > :afterId"
+        + " and (:type is null or p.type = :type)"
+        + " and (:city is null or p.city = :city)"
+        + " and (:minPrice is null or p.price >= :minPrice)"
+        + " and (:maxPrice is null or p.price <= :maxPrice)"
+        + " and (:minArea is null or p.area >= :minArea)"
+        + " and (:maxArea is null or p.area <= :maxArea)"
+        + " order by p.id asc")
+    List<PropertyResponse> findVerifiedResponsePage(@Param("afterId") long afterId,
+                                            @Param("type") PropertyType type,
+                                            @Param("city") String city,
+                                            @Param("minPrice") BigDecimal minPrice,
+                                            @Param("maxPrice") BigDecimal maxPrice,
+                                            @Param("minArea") Integer minArea,
+                                            @Param("maxArea") Integer maxArea,
+                                            Pageable pageable);
 }
@@ -3,10 +3,17 @@ package com.commercialspace.repository;
 import com.commercialspace.model.Review;
 import com.commercialspace.model.Property;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface ReviewRepository extends JpaRepository<Review, Long> {
     List<Review> findByPropertyId(Long propertyId);
     long countByPropertyId(Long propertyId);
     Double findAverageRatingByPropertyId(Long propertyId);
+
+    // Creation times since the given time, to seed the realtime activity counters on startup
+    @Query("SELECT r.createdAt FROM Review r WHERE r.createdAt >= :since")
+    List<LocalDateTime> findCreatedAtSince(@Param("since") LocalDateTime since);
 } 
\ No newline at end of file
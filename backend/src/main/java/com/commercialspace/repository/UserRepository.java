@@ -2,12 +2,32 @@ package com.commercialspace.repository;
 
 import com.commercialspace.model.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
     Boolean existsByEmail(String email);
+
+    // Rows of [role, count]
+    @Query("SELECT u.role, COUNT(u) FROM User u GROUP BY u.role")
+    List<Object[]> countByRole();
+
+    // Rows of [createdDate, count] for users registered since the given time
+    @Query("SELECT cast(u.createdAt as LocalDate), COUNT(u) FROM User u WHERE u.createdAt >= :since"
+        + " GROUP BY cast(u.createdAt as LocalDate)")
+    List<Object[]> countByCreatedDate(@Param("since") LocalDateTime since);
+
+    @Query("SELECT COUNT(u) FROM User u WHERE u.createdAt >= :from AND u.createdAt < :to")
+    long countCreatedBetween(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    // Creation times since the given time, to seed the realtime activity counters on startup
+    @Query("SELECT u.createdAt FROM User u WHERE u.createdAt >= :since")
+    List<LocalDateTime> findCreatedAtSince(@Param("since") LocalDateTime since);
 }
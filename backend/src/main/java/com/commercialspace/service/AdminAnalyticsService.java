@@ -6,21 +6,88 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
+import java.time.DateTimeException;
+import java.time.DayOfWeek;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
 import java.util.*;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 @Service
 public class AdminAnalyticsService {
 
+    private static final int MAX_SERIES_BUCKETS = 400;
+    private static final int MAX_WINDOW_DAYS = 3660;
+
+    // The last `days` days up to and including today, and the period of the same length just before it
+    private static final class Window {
+        private final int days;
+        private final LocalDate from;
+        private final LocalDate to;
+        private final LocalDate previousFrom;
+
+        Window(int days) {
+            if (days < 1 || days > MAX_WINDOW_DAYS) {
+                throw new IllegalArgumentException("Days must be between 1 and " + MAX_WINDOW_DAYS);
+            }
+            this.days = days;
+            this.to = LocalDate.now().plusDays(1);
+            this.from = to.minusDays(days);
+            this.previousFrom = from.minusDays(days);
+        }
+    }
+
+    private enum Granularity {
+        DAY(ChronoUnit.DAYS, 30, "dd MMM yyyy"),
+        WEEK(ChronoUnit.WEEKS, 12, "dd MMM yyyy"),
+        MONTH(ChronoUnit.MONTHS, 12, "MMM yyyy");
+
+        private final ChronoUnit unit;
+        private final int defaultBuckets;
+        private final DateTimeFormatter labelFormatter;
+
+        Granularity(ChronoUnit unit, int defaultBuckets, String labelPattern) {
+            this.unit = unit;
+            this.defaultBuckets = defaultBuckets;
+            this.labelFormatter = DateTimeFormatter.ofPattern(labelPattern);
+        }
+
+        // Weeks start on Monday
+        LocalDate bucketStart(LocalDate date) {
+            return switch (this) {
+                case DAY -> date;
+                case WEEK -> date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+                case MONTH -> date.withDayOfMonth(1);
+            };
+        }
+
+        static Granularity parse(String value) {
+            try {
+                return valueOf(value.trim().toUpperCase());
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Granularity must be one of day, week or month");
+            }
+        }
+    }
+
     @Autowired
-    private PropertyRepository propertyRepository;
+    private AnalyticsAggregateStore aggregates;
+
+    @Autowired
+    private AnalyticsSectionRunner sectionRunner;
 
     @Autowired
     private BookingRepository bookingRepository;
 
+    @Autowired
+    private PropertyRepository propertyRepository;
+
     @Autowired
     private UserRepository userRepository;
 
@@ -28,32 +95,43 @@ public class AdminAnalyticsService {
     private ReviewRepository reviewRepository;
 
     public Map<String, Object> getAnalytics(int days) {
-        LocalDate startDate = LocalDate.now().minusDays(days);
-        
+        Window window = new Window(days);
+        Map<String, Object> windowData = new HashMap<>();
+        windowData.put("days", window.days);
+        windowData.put("from", window.from);
+        windowData.put("to", window.to.minusDays(1));
+        windowData.put("previousFrom", window.previousFrom);
+        windowData.put("previousTo", window.from.minusDays(1));
+
+        // The sections are independent, so they run concurrently; a failed or slow one is left out and reported
+        Map<String, Supplier<Object>> sections = new LinkedHashMap<>();
+        sections.put("properties", () -> getPropertyAnalytics(days));
+        sections.put("bookings", () -> getBookingAnalytics(days));
+        sections.put("users", () -> getUserAnalytics(days));
+        sections.put("revenue", () -> getRevenueAnalytics(days));
+        AnalyticsSectionRunner.Outcome outcome = sectionRunner.runAll(sections);
+
         Map<String, Object> analytics = new HashMap<>();
-        analytics.put("properties", getPropertyAnalytics(days));
-        analytics.put("bookings", getBookingAnalytics(days));
-        analytics.put("users", getUserAnalytics(days));
-        analytics.put("revenue", getRevenueAnalytics(days));
+        analytics.put("window", windowData);
+        analytics.putAll(outcome.getResults());
+        analytics.put("partial", outcome.isPartial());
+        if (outcome.isPartial()) {
+            analytics.put("errors", outcome.getErrors());
+        }
         
         return analytics;
     }
 
     public Map<String, Object> getPropertyAnalytics(int days) {
-        LocalDate startDate = LocalDate.now().minusDays(days);
-        
-        List<Property> allProperties = propertyRepository.findAll();
+        Window window = new Window(days);
         
-        // Property counts
-        long totalProperties = allProperties.size();
-        long verifiedProperties = allProperties.stream().filter(Property::isVerified).count();
+        // Property counts describe the current inventory, so they are all-time; only "window" follows `days`
+        long totalProperties = aggregates.propertyCount();
+        long verifiedProperties = aggregates.verifiedPropertyCount();
         long pendingProperties = totalProperties - verifiedProperties;
         
         // Properties by type
-        Map<PropertyType, Long> propertiesByType = allProperties.stream()
-            .collect(Collectors.groupingBy(Property::getType, Collectors.counting()));
-        
-        List<Map<String, Object>> byType = propertiesByType.entrySet().stream()
+        List<Map<String, Object>> byType = aggregates.propertiesByType().entrySet().stream()
             .map(entry -> {
                 Map<String, Object> typeData = new HashMap<>();
                 typeData.put("type", entry.getKey().toString());
@@ -63,11 +141,7 @@ public class AdminAnalyticsService {
             .collect(Collectors.toList());
         
         // Properties by location
-        Map<String, Long> propertiesByLocation = allProperties.stream()
-            .filter(p -> p.getCity() != null && !p.getCity().isEmpty())
-            .collect(Collectors.groupingBy(Property::getCity, Collectors.counting()));
-        
-        List<Map<String, Object>> byLocation = propertiesByLocation.entrySet().stream()
+        List<Map<String, Object>> byLocation = aggregates.propertiesByCity().entrySet().stream()
             .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
             .limit(10)
             .map(entry -> {
@@ -84,45 +158,36 @@ public class AdminAnalyticsService {
         propertyAnalytics.put("pending", pendingProperties);
         propertyAnalytics.put("byType", byType);
         propertyAnalytics.put("byLocation", byLocation);
+        propertyAnalytics.put("allTimeFields", List.of("total", "verified", "pending", "byType", "byLocation"));
+        propertyAnalytics.put("window", comparison(propertiesListed(window.from, window.to),
+            propertiesListed(window.previousFrom, window.from)));
         
         return propertyAnalytics;
     }
 
     public Map<String, Object> getBookingAnalytics(int days) {
-        LocalDate startDate = LocalDate.now().minusDays(days);
-        
-        List<Booking> allBookings = bookingRepository.findAll();
+        Window window = new Window(days);
         
-        // Booking counts
-        long totalBookings = allBookings.size();
-        long pendingBookings = allBookings.stream().filter(b -> "PENDING".equals(b.getStatus())).count();
-        long acceptedBookings = allBookings.stream().filter(b -> "ACCEPTED".equals(b.getStatus())).count();
-        long rejectedBookings = allBookings.stream().filter(b -> "REJECTED".equals(b.getStatus())).count();
+        // Booking counts for bookings created in the window
+        AnalyticsAggregateStore.BookingActivity activity = bookingActivity(window.from, window.to);
+        long pendingBookings = activity.count(BookingStatus.PENDING);
+        long acceptedBookings = activity.count(BookingStatus.ACCEPTED);
+        long rejectedBookings = activity.count(BookingStatus.REJECTED);
+        long totalBookings = pendingBookings + acceptedBookings + rejectedBookings;
         
-        // Monthly booking data
+        // Monthly booking data from the aggregate store's daily buckets
         List<Map<String, Object>> monthlyData = new ArrayList<>();
         DateTimeFormatter monthFormatter = DateTimeFormatter.ofPattern("MMM yyyy");
         
         for (int i = 11; i >= 0; i--) {
             LocalDate monthStart = LocalDate.now().minusMonths(i).withDayOfMonth(1);
-            LocalDate monthEnd = monthStart.plusMonths(1).minusDays(1);
-            
-            List<Booking> monthBookings = allBookings.stream()
-                .filter(b -> {
-                    LocalDate bookingDate = b.getCreatedAt().toLocalDate();
-                    return !bookingDate.isBefore(monthStart) && !bookingDate.isAfter(monthEnd);
-                })
-                .collect(Collectors.toList());
-            
-            double monthRevenue = monthBookings.stream()
-                .filter(b -> "ACCEPTED".equals(b.getStatus()))
-                .mapToDouble(b -> b.getTotalPrice())
-                .sum();
+            LocalDate nextMonthStart = monthStart.plusMonths(1);
             
             Map<String, Object> monthData = new HashMap<>();
             monthData.put("month", monthStart.format(monthFormatter));
-            monthData.put("count", monthBookings.size());
-            monthData.put("revenue", monthRevenue);
+            AnalyticsAggregateStore.BookingActivity month = aggregates.bookingActivityBetween(monthStart, nextMonthStart);
+            monthData.put("count", (int) month.total());
+            monthData.put("revenue", month.getAcceptedRevenue().doubleValue());
             monthlyData.add(monthData);
         }
         
@@ -132,32 +197,31 @@ public class AdminAnalyticsService {
         bookingAnalytics.put("accepted", acceptedBookings);
         bookingAnalytics.put("rejected", rejectedBookings);
         bookingAnalytics.put("monthly", monthlyData);
+        bookingAnalytics.put("window", comparison(activity.total(), bookingActivity(window.previousFrom, window.from).total()));
         
         return bookingAnalytics;
     }
 
     public Map<String, Object> getUserAnalytics(int days) {
-        LocalDate startDate = LocalDate.now().minusDays(days);
+        Window window = new Window(days);
         
-        List<User> allUsers = userRepository.findAll();
+        // User counts by role are all-time; only "window" follows `days`
+        Map<User.Role, Long> byRole = aggregates.usersByRole();
+        long totalUsers = byRole.values().stream().mapToLong(Long::longValue).sum();
+        long customers = byRole.getOrDefault(User.Role.CUSTOMER, 0L);
+        long owners = byRole.getOrDefault(User.Role.OWNER, 0L);
+        long admins = byRole.getOrDefault(User.Role.ADMIN, 0L);
         
-        // User counts by role
-        long totalUsers = allUsers.size();
-        long customers = allUsers.stream().filter(u -> User.Role.CUSTOMER.equals(u.getRole())).count();
-        long owners = allUsers.stream().filter(u -> User.Role.OWNER.equals(u.getRole())).count();
-        long admins = allUsers.stream().filter(u -> User.Role.ADMIN.equals(u.getRole())).count();
-        
-        // User growth over time - simplified since User doesn't have createdAt
+        // User growth: registrations per month from the aggregate store's daily buckets
         List<Map<String, Object>> growthData = new ArrayList<>();
         DateTimeFormatter monthFormatter = DateTimeFormatter.ofPattern("MMM yyyy");
         
-        // For now, we'll use a simple distribution since we don't have creation dates
         for (int i = 11; i >= 0; i--) {
             LocalDate monthStart = LocalDate.now().minusMonths(i).withDayOfMonth(1);
             
             Map<String, Object> monthData = new HashMap<>();
             monthData.put("month", monthStart.format(monthFormatter));
-            monthData.put("count", Math.max(1, totalUsers / 12)); // Simple distribution
+            monthData.put("count", aggregates.usersRegisteredBetween(monthStart, monthStart.plusMonths(1)));
             growthData.add(monthData);
         }
         
@@ -167,48 +231,35 @@ public class AdminAnalyticsService {
         userAnalytics.put("owners", owners);
         userAnalytics.put("admins", admins);
         userAnalytics.put("growth", growthData);
+        userAnalytics.put("allTimeFields", List.of("total", "customers", "owners", "admins"));
+        userAnalytics.put("window", comparison(usersRegistered(window.from, window.to),
+            usersRegistered(window.previousFrom, window.from)));
         
         return userAnalytics;
     }
 
     public Map<String, Object> getRevenueAnalytics(int days) {
-        LocalDate startDate = LocalDate.now().minusDays(days);
-        
-        List<Booking> allBookings = bookingRepository.findAll();
+        Window window = new Window(days);
         
-        // Total revenue
-        double totalRevenue = allBookings.stream()
-            .filter(b -> "ACCEPTED".equals(b.getStatus()))
-            .mapToDouble(b -> b.getTotalPrice())
-            .sum();
+        // Total revenue of bookings created in the window
+        AnalyticsAggregateStore.BookingActivity activity = bookingActivity(window.from, window.to);
+        BigDecimal acceptedRevenue = activity.getAcceptedRevenue();
+        double totalRevenue = acceptedRevenue.doubleValue();
         
-        // Monthly revenue
-        double monthlyRevenue = allBookings.stream()
-            .filter(b -> "ACCEPTED".equals(b.getStatus()) && 
-                        b.getCreatedAt().isAfter(LocalDateTime.now().minusMonths(1)))
-            .mapToDouble(b -> b.getTotalPrice())
-            .sum();
+        // Monthly revenue: bookings created in the last month, counted by whole days
+        LocalDate today = LocalDate.now();
+        double monthlyRevenue = aggregates.bookingActivityBetween(today.minusMonths(1), today.plusDays(1)).getAcceptedRevenue().doubleValue();
         
         // Average revenue per booking
-        double averageRevenue = allBookings.stream()
-            .filter(b -> "ACCEPTED".equals(b.getStatus()))
-            .mapToDouble(b -> b.getTotalPrice())
-            .average()
-            .orElse(0.0);
+        long pricedBookings = activity.getPricedAccepted();
+        double averageRevenue = pricedBookings > 0 ? acceptedRevenue.doubleValue() / pricedBookings : 0.0;
         
         // Revenue by property type
-        Map<PropertyType, Double> revenueByType = allBookings.stream()
-            .filter(b -> "ACCEPTED".equals(b.getStatus()) && b.getProperty() != null)
-            .collect(Collectors.groupingBy(
-                b -> b.getProperty().getType(),
-                Collectors.summingDouble(Booking::getTotalPrice)
-            ));
-        
-        List<Map<String, Object>> byPropertyType = revenueByType.entrySet().stream()
+        List<Map<String, Object>> byPropertyType = activity.getAcceptedRevenueByType().entrySet().stream()
             .map(entry -> {
                 Map<String, Object> typeData = new HashMap<>();
                 typeData.put("type", entry.getKey().toString());
-                typeData.put("revenue", entry.getValue());
+                typeData.put("revenue", entry.getValue().doubleValue());
                 return typeData;
             })
             .collect(Collectors.toList());
@@ -218,7 +269,115 @@ public class AdminAnalyticsService {
         revenueAnalytics.put("monthly", monthlyRevenue);
         revenueAnalytics.put("average", averageRevenue);
         revenueAnalytics.put("byPropertyType", byPropertyType);
+        revenueAnalytics.put("window", comparison(totalRevenue,
+            bookingActivity(window.previousFrom, window.from).getAcceptedRevenue().doubleValue()));
         
         return revenueAnalytics;
     }
+
+    // Windowed counts come from the aggregate store's daily buckets while it holds those days; longer windows fall
+    // back to range queries on the indexed created_at columns
+    private long propertiesListed(LocalDate from, LocalDate to) {
+        return aggregates.coversDaysFrom(from) ? aggregates.propertiesListedBetween(from, to)
+            : propertyRepository.countCreatedBetween(from.atStartOfDay(), to.atStartOfDay());
+    }
+
+    private long usersRegistered(LocalDate from, LocalDate to) {
+        return aggregates.coversDaysFrom(from) ? aggregates.usersRegisteredBetween(from, to)
+            : userRepository.countCreatedBetween(from.atStartOfDay(), to.atStartOfDay());
+    }
+
+    private AnalyticsAggregateStore.BookingActivity bookingActivity(LocalDate from, LocalDate to) {
+        if (aggregates.coversDaysFrom(from)) {
+            return aggregates.bookingActivityBetween(from, to);
+        }
+        AnalyticsAggregateStore.BookingActivity activity = new AnalyticsAggregateStore.BookingActivity();
+        for (Object[] row : bookingRepository.aggregateByStatusAndPropertyTypeCreatedBetween(from.atStartOfDay(), to.atStartOfDay())) {
+            activity.add((BookingStatus) row[0], (PropertyType) row[1], ((Number) row[2]).longValue(),
+                (BigDecimal) row[3], ((Number) row[4]).longValue());
+        }
+        return activity;
+    }
+
+    // Current vs. previous period, with the change in percent (null when the previous period had nothing)
+    private static Map<String, Object> comparison(Number current, Number previous) {
+        Map<String, Object> data = new HashMap<>();
+        data.put("current", current);
+        data.put("previous", previous);
+        double before = previous.doubleValue();
+        data.put("changePercent", before != 0 ? Math.round((current.doubleValue() - before) * 1000 / before) / 10.0 : null);
+        return data;
+    }
+
+    // Booking count and accepted revenue per day, week or month of creation in the given time zone, from a single
+    // GROUP BY query. Dates are inclusive and widen to whole buckets; by default the latest 30 days, 12 weeks or 12 months.
+    public Map<String, Object> getBookingSeries(String granularity, LocalDate from, LocalDate to, String timezone) {
+        Granularity bucket = Granularity.parse(granularity);
+        ZoneId zone = parseZone(timezone);
+        LocalDate last = bucket.bucketStart(to != null ? to : LocalDate.now(zone));
+        LocalDate first = from != null ? bucket.bucketStart(from) : last.minus(bucket.defaultBuckets - 1, bucket.unit);
+        if (first.isAfter(last)) {
+            throw new IllegalArgumentException("'from' must not be after 'to'");
+        }
+        long buckets = bucket.unit.between(first, last) + 1;
+        if (buckets > MAX_SERIES_BUCKETS) {
+            throw new IllegalArgumentException("A series can have at most " + MAX_SERIES_BUCKETS + " buckets");
+        }
+
+        // createdAt holds server-local time; shift it by the zone's current offset from the server (a DST change
+        // inside the range moves the affected bookings by at most an hour)
+        Instant now = Instant.now();
+        int offsetMinutes = (zone.getRules().getOffset(now).getTotalSeconds()
+            - ZoneId.systemDefault().getRules().getOffset(now).getTotalSeconds()) / 60;
+        LocalDateTime anchor = first.atStartOfDay();
+        LocalDateTime end = last.plus(1, bucket.unit).atStartOfDay();
+        LocalDateTime rangeStart = anchor.minusMinutes(offsetMinutes);
+        LocalDateTime rangeEnd = end.minusMinutes(offsetMinutes);
+        List<Object[]> rows = switch (bucket) {
+            case DAY -> bookingRepository.seriesByDay(anchor, offsetMinutes, rangeStart, rangeEnd, BookingStatus.ACCEPTED);
+            case WEEK -> bookingRepository.seriesByWeek(anchor, offsetMinutes, rangeStart, rangeEnd, BookingStatus.ACCEPTED);
+            case MONTH -> bookingRepository.seriesByMonth(anchor, offsetMinutes, rangeStart, rangeEnd, BookingStatus.ACCEPTED);
+        };
+
+        long[] counts = new long[(int) buckets];
+        BigDecimal[] revenues = new BigDecimal[(int) buckets];
+        for (Object[] row : rows) {
+            int index = ((Number) row[0]).intValue();
+            if (index >= 0 && index < buckets) {
+                counts[index] = ((Number) row[1]).longValue();
+                revenues[index] = row[2] != null ? new BigDecimal(row[2].toString()) : null;
+            }
+        }
+
+        // Empty buckets are filled in so the series has no gaps
+        List<Map<String, Object>> series = new ArrayList<>();
+        for (int i = 0; i < buckets; i++) {
+            LocalDate start = first.plus(i, bucket.unit);
+            Map<String, Object> point = new HashMap<>();
+            point.put("period", start.toString());
+            point.put("label", start.format(bucket.labelFormatter));
+            point.put("count", counts[i]);
+            point.put("revenue", revenues[i] != null ? revenues[i].doubleValue() : 0.0);
+            series.add(point);
+        }
+
+        Map<String, Object> result = new HashMap<>();
+        result.put("granularity", bucket.name().toLowerCase());
+        result.put("timezone", zone.getId());
+        result.put("from", first);
+        result.put("to", end.toLocalDate().minusDays(1));
+        result.put("series", series);
+        return result;
+    }
+
+    private static ZoneId parseZone(String timezone) {
+        if (timezone == null || timezone.isBlank()) {
+            return ZoneId.systemDefault();
+        }
+        try {
+            return ZoneId.of(timezone.trim());
+        } catch (DateTimeException e) {
+            throw new IllegalArgumentException("Unknown time zone: " + timezone);
+        }
+    }
 }
@@ -0,0 +1,335 @@
+package com.commercialspace.service;
+
+import com.commercialspace.event.BookingChangedEvent;
+import com.commercialspace.event.PropertyChangedEvent;
+import com.commercialspace.event.UserRegisteredEvent;
+import com.commercialspace.model.BookingStatus;
+import com.commercialspace.model.PropertyType;
+import com.commercialspace.model.User;
+import com.commercialspace.repository.BookingRepository;
+import com.commercialspace.repository.PropertyRepository;
+import com.commercialspace.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Dashboard counters and revenue sums kept up to date from committed change events, so analytics reads never scan
+// the tables. A periodic reconciliation rebuilds everything with GROUP BY queries and corrects any drift.
+@Service
+public class AnalyticsAggregateStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(AnalyticsAggregateStore.class);
+    // Daily buckets cover the dashboard's 12 monthly bars plus the current partial month, and windowed comparisons
+    // of up to 200 days against the period before
+    private static final int DAILY_RETENTION_DAYS = 400;
+
+    private final PropertyRepository propertyRepository;
+    private final BookingRepository bookingRepository;
+    private final UserRepository userRepository;
+
+    // Guarded by this
+    private State state = new State();
+
+    private final AtomicLong reconciliations = new AtomicLong();
+    private final AtomicLong eventsApplied = new AtomicLong();
+    private volatile LocalDateTime lastReconciledAt;
+    private volatile boolean lastReconcileDrifted;
+
+    // Booking counts by status and accepted revenue, overall and by property type. The store keeps one for all time
+    // and one per day of creation; reads get a copy.
+    public static final class BookingActivity {
+        private final Map<BookingStatus, Long> byStatus = new EnumMap<>(BookingStatus.class);
+        private BigDecimal acceptedRevenue = BigDecimal.ZERO;
+        private long pricedAccepted;
+        private final Map<PropertyType, BigDecimal> acceptedRevenueByType = new EnumMap<>(PropertyType.class);
+
+        // `revenue` sums the prices of `pricedCount` of the bookings and only counts for accepted ones
+        void add(BookingStatus status, PropertyType type, long count, BigDecimal revenue, long pricedCount) {
+            if (status == null) {
+                return;
+            }
+            State.addCount(byStatus, status, count);
+            if (status == BookingStatus.ACCEPTED && revenue != null) {
+                acceptedRevenue = acceptedRevenue.add(revenue);
+                pricedAccepted += pricedCount;
+                addRevenueByType(type, revenue);
+            }
+        }
+
+        void addAll(BookingActivity other) {
+            other.byStatus.forEach((status, count) -> State.addCount(byStatus, status, count));
+            acceptedRevenue = acceptedRevenue.add(other.acceptedRevenue);
+            pricedAccepted += other.pricedAccepted;
+            other.acceptedRevenueByType.forEach(this::addRevenueByType);
+        }
+
+        private void addRevenueByType(PropertyType type, BigDecimal amount) {
+            if (type == null) {
+                return;
+            }
+            BigDecimal revenue = acceptedRevenueByType.getOrDefault(type, BigDecimal.ZERO).add(amount);
+            if (revenue.signum() == 0) {
+                acceptedRevenueByType.remove(type);
+            } else {
+                acceptedRevenueByType.put(type, revenue);
+            }
+        }
+
+        public long count(BookingStatus status) {
+            return byStatus.getOrDefault(status, 0L);
+        }
+
+        public long total() {
+            return byStatus.values().stream().mapToLong(Long::longValue).sum();
+        }
+
+        public BigDecimal getAcceptedRevenue() { return acceptedRevenue; }
+        public long getPricedAccepted() { return pricedAccepted; }
+        public Map<PropertyType, BigDecimal> getAcceptedRevenueByType() { return acceptedRevenueByType; }
+    }
+
+    private static final class State {
+        private long properties;
+        private long verifiedProperties;
+        private final Map<PropertyType, Long> propertiesByType = new EnumMap<>(PropertyType.class);
+        private final Map<String, Long> propertiesByCity = new HashMap<>();
+        private final Map<User.Role, Long> usersByRole = new EnumMap<>(User.Role.class);
+        private final BookingActivity bookings = new BookingActivity();
+        private final Map<LocalDate, BookingActivity> days = new HashMap<>();
+        private final Map<LocalDate, Long> propertiesListed = new HashMap<>();
+        private final Map<LocalDate, Long> usersRegistered = new HashMap<>();
+        // First day the daily maps are complete from; null until the first reconciliation
+        private LocalDate dailyFrom;
+
+        void addProperties(PropertyType type, String city, boolean verified, long count) {
+            properties += count;
+            if (verified) {
+                verifiedProperties += count;
+            }
+            if (type != null) {
+                addCount(propertiesByType, type, count);
+            }
+            if (city != null && !city.isEmpty()) {
+                addCount(propertiesByCity, city, count);
+            }
+        }
+
+        void addBooking(BookingChangedEvent.Snapshot booking, int sign) {
+            BigDecimal price = booking.getTotalPrice();
+            BigDecimal amount = price == null ? null : sign > 0 ? price : price.negate();
+            long priced = price != null ? sign : 0;
+            bookings.add(booking.getStatus(), booking.getPropertyType(), sign, amount, priced);
+            if (booking.getCreatedDate() != null) {
+                days.computeIfAbsent(booking.getCreatedDate(), d -> new BookingActivity())
+                    .add(booking.getStatus(), booking.getPropertyType(), sign, amount, priced);
+            }
+        }
+
+        long totalUsers() {
+            return usersByRole.values().stream().mapToLong(Long::longValue).sum();
+        }
+
+        // Counts that reach zero are dropped so grouped listings match what GROUP BY would return
+        private static <K> void addCount(Map<K, Long> counts, K key, long delta) {
+            long value = counts.getOrDefault(key, 0L) + delta;
+            if (value == 0) {
+                counts.remove(key);
+            } else {
+                counts.put(key, value);
+            }
+        }
+    }
+
+    public AnalyticsAggregateStore(PropertyRepository propertyRepository, BookingRepository bookingRepository, UserRepository userRepository) {
+        this.propertyRepository = propertyRepository;
+        this.bookingRepository = bookingRepository;
+        this.userRepository = userRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${analytics.aggregates.reconcile-interval-ms:900000}",
+               initialDelayString = "${analytics.aggregates.reconcile-interval-ms:900000}")
+    public void reconcile() {
+        State rebuilt = new State();
+        for (Object[] row : propertyRepository.countByTypeCityAndVerified()) {
+            rebuilt.addProperties((PropertyType) row[0], (String) row[1], Boolean.TRUE.equals(row[2]), ((Number) row[3]).longValue());
+        }
+        for (Object[] row : userRepository.countByRole()) {
+            if (row[0] != null) {
+                rebuilt.usersByRole.put((User.Role) row[0], ((Number) row[1]).longValue());
+            }
+        }
+        for (Object[] row : bookingRepository.aggregateByStatusAndPropertyType()) {
+            rebuilt.bookings.add((BookingStatus) row[0], (PropertyType) row[1], ((Number) row[2]).longValue(),
+                (BigDecimal) row[3], ((Number) row[4]).longValue());
+        }
+        LocalDate firstDay = LocalDate.now().minusDays(DAILY_RETENTION_DAYS);
+        rebuilt.dailyFrom = firstDay;
+        for (Object[] row : propertyRepository.countByCreatedDate(firstDay.atStartOfDay())) {
+            rebuilt.propertiesListed.put((LocalDate) row[0], ((Number) row[1]).longValue());
+        }
+        for (Object[] row : userRepository.countByCreatedDate(firstDay.atStartOfDay())) {
+            rebuilt.usersRegistered.put((LocalDate) row[0], ((Number) row[1]).longValue());
+        }
+        for (Object[] row : bookingRepository.aggregateByCreatedDateStatusAndPropertyType(firstDay.atStartOfDay())) {
+            rebuilt.days.computeIfAbsent((LocalDate) row[0], d -> new BookingActivity()).add((BookingStatus) row[1],
+                (PropertyType) row[2], ((Number) row[3]).longValue(), (BigDecimal) row[4], ((Number) row[5]).longValue());
+        }
+        boolean drifted;
+        synchronized (this) {
+            // Events that commit while the queries run can be missed or counted twice; the next pass corrects them
+            drifted = reconciliations.get() > 0 && (state.properties != rebuilt.properties
+                || state.verifiedProperties != rebuilt.verifiedProperties
+                || state.totalUsers() != rebuilt.totalUsers()
+                || state.bookings.total() != rebuilt.bookings.total()
+                || state.bookings.acceptedRevenue.compareTo(rebuilt.bookings.acceptedRevenue) != 0);
+            state = rebuilt;
+        }
+        reconciliations.incrementAndGet();
+        lastReconciledAt = LocalDateTime.now();
+        lastReconcileDrifted = drifted;
+        if (drifted) {
+            logger.warn("Analytics aggregates drifted from the database and were reconciled");
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(0)
+    public void onPropertyChanged(PropertyChangedEvent event) {
+        switch (event.getChange()) {
+            case CREATED -> {
+                synchronized (this) {
+                    state.addProperties(event.getProperty().getType(), event.getProperty().getCity(), event.getProperty().isVerified(), 1);
+                    if (event.getProperty().getCreatedAt() != null) {
+                        State.addCount(state.propertiesListed, event.getProperty().getCreatedAt().toLocalDate(), 1);
+                    }
+                }
+                eventsApplied.incrementAndGet();
+            }
+            case VERIFICATION_CHANGED -> {
+                boolean verified = event.getProperty().isVerified();
+                if (verified != event.wasPreviouslyVerified()) {
+                    synchronized (this) {
+                        state.verifiedProperties += verified ? 1 : -1;
+                    }
+                }
+                eventsApplied.incrementAndGet();
+            }
+            default -> {
+            }
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(0)
+    public void onBookingChanged(BookingChangedEvent event) {
+        synchronized (this) {
+            if (event.getBefore() != null) {
+                state.addBooking(event.getBefore(), -1);
+            }
+            if (event.getAfter() != null) {
+                state.addBooking(event.getAfter(), 1);
+            }
+        }
+        eventsApplied.incrementAndGet();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(0)
+    public void onUserRegistered(UserRegisteredEvent event) {
+        synchronized (this) {
+            if (event.getRole() != null) {
+                State.addCount(state.usersByRole, event.getRole(), 1);
+            }
+            if (event.getCreatedAt() != null) {
+                State.addCount(state.usersRegistered, event.getCreatedAt().toLocalDate(), 1);
+            }
+        }
+        eventsApplied.incrementAndGet();
+    }
+
+    public synchronized long propertyCount() {
+        return state.properties;
+    }
+
+    public synchronized long verifiedPropertyCount() {
+        return state.verifiedProperties;
+    }
+
+    public synchronized Map<PropertyType, Long> propertiesByType() {
+        return new EnumMap<>(state.propertiesByType);
+    }
+
+    public synchronized Map<String, Long> propertiesByCity() {
+        return new HashMap<>(state.propertiesByCity);
+    }
+
+    public synchronized Map<User.Role, Long> usersByRole() {
+        return new EnumMap<>(state.usersByRole);
+    }
+
+    public synchronized Map<BookingStatus, Long> bookingsByStatus() {
+        return new EnumMap<>(state.bookings.byStatus);
+    }
+
+    // Whether the daily buckets hold every day from the given date on; older days need a database query
+    public synchronized boolean coversDaysFrom(LocalDate from) {
+        return state.dailyFrom != null && !from.isBefore(state.dailyFrom);
+    }
+
+    // Properties listed in [from, to), by local creation date; covers the daily retention window only
+    public synchronized long propertiesListedBetween(LocalDate from, LocalDate to) {
+        return sumDays(state.propertiesListed, from, to);
+    }
+
+    // Users registered in [from, to), by local creation date; covers the daily retention window only
+    public synchronized long usersRegisteredBetween(LocalDate from, LocalDate to) {
+        return sumDays(state.usersRegistered, from, to);
+    }
+
+    // Activity of bookings created in [from, to), by local creation date; covers the daily retention window only
+    public synchronized BookingActivity bookingActivityBetween(LocalDate from, LocalDate to) {
+        BookingActivity activity = new BookingActivity();
+        for (LocalDate day = from; day.isBefore(to); day = day.plusDays(1)) {
+            BookingActivity bucket = state.days.get(day);
+            if (bucket != null) {
+                activity.addAll(bucket);
+            }
+        }
+        return activity;
+    }
+
+    private static long sumDays(Map<LocalDate, Long> counts, LocalDate from, LocalDate to) {
+        long count = 0;
+        for (LocalDate day = from; day.isBefore(to); day = day.plusDays(1)) {
+            count += counts.getOrDefault(day, 0L);
+        }
+        return count;
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("reconciliations", reconciliations.get());
+        stats.put("lastReconciledAt", lastReconciledAt);
+        stats.put("lastReconcileDrifted", lastReconcileDrifted);
+        stats.put("eventsApplied", eventsApplied.get());
+        synchronized (this) {
+            stats.put("dailyBuckets", state.days.size());
+            stats.put("dailyFrom", state.dailyFrom);
+        }
+        return stats;
+    }
+}
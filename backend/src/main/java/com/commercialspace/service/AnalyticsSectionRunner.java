@@ -0,0 +1,193 @@
+package com.commercialspace.service;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+// Runs the independent sections of a composite report concurrently, so the report takes as long as its slowest
+// section. Uses virtual threads when the JVM has them and a platform pool otherwise; a semaphore bounds the sections
+// in flight across all reports. A section that fails or runs past the timeout is reported instead of failing the report.
+@Service
+public class AnalyticsSectionRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(AnalyticsSectionRunner.class);
+
+    private final ExecutorService executor;
+    private final boolean virtualThreads;
+    private final Semaphore permits;
+    private final int maxConcurrency;
+    private final long timeoutMillis;
+
+    private final AtomicLong reports = new AtomicLong();
+    private final AtomicLong sectionsRun = new AtomicLong();
+    private final AtomicLong notStarted = new AtomicLong();
+    private final AtomicLong timedOut = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong maxSectionNanos = new AtomicLong();
+
+    public static final class Outcome {
+        private final Map<String, Object> results = new LinkedHashMap<>();
+        private final Map<String, String> errors = new LinkedHashMap<>();
+
+        public Map<String, Object> getResults() { return results; }
+        public Map<String, String> getErrors() { return errors; }
+        public boolean isPartial() { return !errors.isEmpty(); }
+    }
+
+    public AnalyticsSectionRunner(@Value("${analytics.sections.max-concurrency:16}") int maxConcurrency,
+                                  @Value("${analytics.sections.timeout-ms:5000}") long timeoutMillis,
+                                  @Value("${analytics.sections.virtual-threads:true}") boolean preferVirtualThreads) {
+        ExecutorService virtual = preferVirtualThreads ? virtualThreadExecutor() : null;
+        this.virtualThreads = virtual != null;
+        if (virtual != null) {
+            this.executor = virtual;
+        } else {
+            AtomicInteger threadNumber = new AtomicInteger();
+            // The semaphore already bounds the work, so the queue never holds more than maxConcurrency tasks
+            ThreadPoolExecutor pool = new ThreadPoolExecutor(maxConcurrency, maxConcurrency, 60L, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "analytics-section-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+            pool.allowCoreThreadTimeOut(true);
+            this.executor = pool;
+        }
+        this.permits = new Semaphore(maxConcurrency);
+        this.maxConcurrency = maxConcurrency;
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    // Virtual threads arrived in Java 21 and the build targets 17, so the factory method is looked up at runtime
+    private static ExecutorService virtualThreadExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+
+    // Sections are named by their keys; results keep the order of the map
+    public Outcome runAll(Map<String, Supplier<Object>> sections) {
+        reports.incrementAndGet();
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        Outcome outcome = new Outcome();
+        Map<String, Future<Object>> running = new LinkedHashMap<>();
+        for (Map.Entry<String, Supplier<Object>> section : sections.entrySet()) {
+            Future<Object> future = submit(section.getValue(), deadline);
+            if (future != null) {
+                running.put(section.getKey(), future);
+            } else {
+                notStarted.incrementAndGet();
+                outcome.errors.put(section.getKey(), "Not started: all " + maxConcurrency + " analytics workers stayed busy");
+            }
+        }
+
+        Map<String, Object> results = new HashMap<>();
+        for (Map.Entry<String, Future<Object>> section : running.entrySet()) {
+            String name = section.getKey();
+            try {
+                results.put(name, section.getValue().get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS));
+            } catch (TimeoutException e) {
+                section.getValue().cancel(true);
+                timedOut.incrementAndGet();
+                outcome.errors.put(name, "Timed out after " + timeoutMillis + " ms");
+                logger.warn("Analytics section '{}' timed out after {} ms", name, timeoutMillis);
+            } catch (ExecutionException e) {
+                fail(outcome, name, e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                section.getValue().cancel(true);
+                outcome.errors.put(name, "Interrupted");
+            }
+        }
+        // Keep the caller's section order whichever way each one ran
+        for (String name : sections.keySet()) {
+            if (results.containsKey(name)) {
+                outcome.results.put(name, results.get(name));
+            }
+        }
+        return outcome;
+    }
+
+    // When every permit is taken the section waits for one, but never past the report's deadline
+    private Future<Object> submit(Supplier<Object> section, long deadline) {
+        try {
+            if (!permits.tryAcquire(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS)) {
+                return null;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+        try {
+            return executor.submit(() -> {
+                try {
+                    return timed(section);
+                } finally {
+                    permits.release();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            permits.release();
+            return null;
+        }
+    }
+
+    private Object timed(Supplier<Object> section) {
+        long start = System.nanoTime();
+        try {
+            return section.get();
+        } finally {
+            sectionsRun.incrementAndGet();
+            maxSectionNanos.accumulateAndGet(System.nanoTime() - start, Math::max);
+        }
+    }
+
+    private void fail(Outcome outcome, String name, Throwable cause) {
+        failed.incrementAndGet();
+        String message = cause.getMessage() != null ? cause.getMessage() : cause.getClass().getSimpleName();
+        outcome.errors.put(name, message);
+        logger.error("Analytics section '{}' failed", name, cause);
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("virtualThreads", virtualThreads);
+        stats.put("maxConcurrency", maxConcurrency);
+        stats.put("inFlight", maxConcurrency - permits.availablePermits());
+        stats.put("timeoutMs", timeoutMillis);
+        stats.put("reports", reports.get());
+        stats.put("sectionsRun", sectionsRun.get());
+        stats.put("notStarted", notStarted.get());
+        stats.put("timedOut", timedOut.get());
+        stats.put("failed", failed.get());
+        stats.put("maxSectionMs", maxSectionNanos.get() / 1_000_000.0);
+        return stats;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
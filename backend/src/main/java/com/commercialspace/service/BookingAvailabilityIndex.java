@@ -0,0 +1,222 @@
+package com.commercialspace.service;
+
+import com.commercialspace.dto.OccupiedRange;
+import com.commercialspace.model.BookingStatus;
+import com.commercialspace.repository.BookingRepository;
+import com.commercialspace.util.IntervalTree;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+// Per-property interval trees of accepted and pending booking dates and of temporary holds (epoch days, both ends inclusive)
+@Service
+public class BookingAvailabilityIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(BookingAvailabilityIndex.class);
+    static final String HELD = "HELD";
+
+    private final BookingRepository bookingRepository;
+    private final Map<Long, PropertyCalendar> calendars = new ConcurrentHashMap<>();
+
+    public BookingAvailabilityIndex(BookingRepository bookingRepository) {
+        this.bookingRepository = bookingRepository;
+    }
+
+    private static final class PropertyCalendar {
+        // Held across check, save and index update so two writers on one property cannot both pass the check
+        private final ReentrantLock writeLock = new ReentrantLock();
+        private final IntervalTree accepted = new IntervalTree();
+        private final IntervalTree pending = new IntervalTree();
+        // Holds live only in memory and are keyed by hold id, which is a separate id space from bookings
+        private final IntervalTree held = new IntervalTree();
+        private final Map<Long, Long> holdStarts = new HashMap<>();
+        // bookingId -> {start, end, 1 if accepted else 0}, needed to find the tree node again on removal
+        private final Map<Long, long[]> ranges = new HashMap<>();
+
+        // Both return the booking's previous range so a rolled-back write can be undone
+        synchronized long[] put(long bookingId, long start, long end, BookingStatus status) {
+            long[] previous = remove(bookingId);
+            if (status == BookingStatus.ACCEPTED) {
+                accepted.insert(start, end, bookingId);
+            } else if (status == BookingStatus.PENDING) {
+                pending.insert(start, end, bookingId);
+            } else {
+                return previous;
+            }
+            ranges.put(bookingId, new long[] { start, end, status == BookingStatus.ACCEPTED ? 1 : 0 });
+            return previous;
+        }
+
+        synchronized long[] remove(long bookingId) {
+            long[] range = ranges.remove(bookingId);
+            if (range != null) {
+                (range[2] == 1 ? accepted : pending).remove(range[0], bookingId);
+            }
+            return range;
+        }
+
+        synchronized void restore(long bookingId, long[] previous) {
+            if (previous == null) {
+                remove(bookingId);
+            } else {
+                put(bookingId, previous[0], previous[1], previous[2] == 1 ? BookingStatus.ACCEPTED : BookingStatus.PENDING);
+            }
+        }
+
+        synchronized Long findConflict(long start, long end, long excludeBookingId, boolean includePending) {
+            Long conflict = accepted.findOverlap(start, end, excludeBookingId);
+            if (conflict == null && includePending) {
+                conflict = pending.findOverlap(start, end, excludeBookingId);
+            }
+            return conflict;
+        }
+
+        synchronized void putHold(long holdId, long start, long end) {
+            removeHold(holdId);
+            held.insert(start, end, holdId);
+            holdStarts.put(holdId, start);
+        }
+
+        synchronized void removeHold(long holdId) {
+            Long start = holdStarts.remove(holdId);
+            if (start != null) {
+                held.remove(start, holdId);
+            }
+        }
+
+        synchronized Long findHoldConflict(long start, long end, long excludeHoldId) {
+            return held.findOverlap(start, end, excludeHoldId);
+        }
+
+        synchronized List<OccupiedRange> occupied(long from, long to) {
+            List<OccupiedRange> result = new ArrayList<>();
+            for (IntervalTree.Interval i : accepted.overlapping(from, to)) {
+                result.add(new OccupiedRange(LocalDate.ofEpochDay(i.getStart()), LocalDate.ofEpochDay(i.getEnd()), BookingStatus.ACCEPTED.name()));
+            }
+            for (IntervalTree.Interval i : pending.overlapping(from, to)) {
+                result.add(new OccupiedRange(LocalDate.ofEpochDay(i.getStart()), LocalDate.ofEpochDay(i.getEnd()), BookingStatus.PENDING.name()));
+            }
+            for (IntervalTree.Interval i : held.overlapping(from, to)) {
+                result.add(new OccupiedRange(LocalDate.ofEpochDay(i.getStart()), LocalDate.ofEpochDay(i.getEnd()), HELD));
+            }
+            result.sort(Comparator.comparing(OccupiedRange::getStartDate));
+            return result;
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        calendars.clear();
+        List<Object[]> rows = bookingRepository.findRangesByStatusIn(List.of(BookingStatus.ACCEPTED, BookingStatus.PENDING));
+        int indexed = 0;
+        for (Object[] row : rows) {
+            LocalDate start = (LocalDate) row[2];
+            LocalDate end = (LocalDate) row[3];
+            if (row[1] == null || start == null || end == null || end.isBefore(start)) {
+                continue;
+            }
+            calendar((Long) row[1]).put((Long) row[0], start.toEpochDay(), end.toEpochDay(), (BookingStatus) row[4]);
+            indexed++;
+        }
+        logger.info("Availability index loaded with {} bookings across {} properties", indexed, calendars.size());
+    }
+
+    // Runs the action while holding the property's write lock; booking writes for one property are serialized
+    public <T> T withPropertyLock(Long propertyId, Supplier<T> action) {
+        ReentrantLock lock = calendar(propertyId).writeLock;
+        lock.lock();
+        try {
+            return action.get();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Returns the id of a booking whose dates overlap the range, or null when the range is free
+    public Long findConflict(Long propertyId, LocalDate startDate, LocalDate endDate, Long excludeBookingId, boolean includePending) {
+        PropertyCalendar calendar = calendars.get(propertyId);
+        if (calendar == null) {
+            return null;
+        }
+        long exclude = excludeBookingId != null ? excludeBookingId : Long.MIN_VALUE;
+        return calendar.findConflict(startDate.toEpochDay(), endDate.toEpochDay(), exclude, includePending);
+    }
+
+    // Returns the id of a hold other than excludeHoldId that overlaps the range, or null when there is none
+    public Long findHoldConflict(Long propertyId, LocalDate startDate, LocalDate endDate, Long excludeHoldId) {
+        PropertyCalendar calendar = calendars.get(propertyId);
+        if (calendar == null) {
+            return null;
+        }
+        long exclude = excludeHoldId != null ? excludeHoldId : Long.MIN_VALUE;
+        return calendar.findHoldConflict(startDate.toEpochDay(), endDate.toEpochDay(), exclude);
+    }
+
+    // Holds are not transactional: they are placed and released directly by BookingHoldService
+    public void recordHold(Long propertyId, Long holdId, LocalDate startDate, LocalDate endDate) {
+        calendar(propertyId).putHold(holdId, startDate.toEpochDay(), endDate.toEpochDay());
+    }
+
+    public void removeHold(Long propertyId, Long holdId) {
+        PropertyCalendar calendar = calendars.get(propertyId);
+        if (calendar != null) {
+            calendar.removeHold(holdId);
+        }
+    }
+
+    // Index writes apply immediately, ahead of the commit, so concurrent checks already see them;
+    // they are reverted if the surrounding transaction rolls back
+    public void record(Long propertyId, Long bookingId, LocalDate startDate, LocalDate endDate, BookingStatus status) {
+        PropertyCalendar calendar = calendar(propertyId);
+        long[] previous = calendar.put(bookingId, startDate.toEpochDay(), endDate.toEpochDay(), status);
+        undoOnRollback(calendar, bookingId, previous);
+    }
+
+    public void remove(Long propertyId, Long bookingId) {
+        PropertyCalendar calendar = calendars.get(propertyId);
+        if (calendar != null) {
+            long[] previous = calendar.remove(bookingId);
+            undoOnRollback(calendar, bookingId, previous);
+        }
+    }
+
+    private static void undoOnRollback(PropertyCalendar calendar, long bookingId, long[] previous) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    calendar.restore(bookingId, previous);
+                }
+            }
+        });
+    }
+
+    public List<OccupiedRange> occupied(Long propertyId, LocalDate from, LocalDate to) {
+        PropertyCalendar calendar = calendars.get(propertyId);
+        if (calendar == null) {
+            return List.of();
+        }
+        return calendar.occupied(from.toEpochDay(), to.toEpochDay());
+    }
+
+    private PropertyCalendar calendar(Long propertyId) {
+        return calendars.computeIfAbsent(propertyId, id -> new PropertyCalendar());
+    }
+}
@@ -0,0 +1,8 @@
+package com.commercialspace.service;
+
+// Thrown when a booking's dates overlap an existing booking on the same property; mapped to 409 Conflict
+public class BookingConflictException extends RuntimeException {
+    public BookingConflictException(String message) {
+        super(message);
+    }
+}
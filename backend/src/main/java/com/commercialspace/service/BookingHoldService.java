@@ -0,0 +1,208 @@
+package com.commercialspace.service;
+
+import com.commercialspace.dto.BookingHoldResponse;
+import com.commercialspace.repository.PropertyRepository;
+import com.commercialspace.util.HashedTimingWheel;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Short-lived reservations of a property's dates while a customer confirms. Holds are kept in memory, block other
+// holds and booking requests through the availability index, and are released by a timing wheel when they lapse.
+@Service
+public class BookingHoldService {
+
+    private static final Logger logger = LoggerFactory.getLogger(BookingHoldService.class);
+
+    private final BookingAvailabilityIndex availabilityIndex;
+    private final PropertyRepository propertyRepository;
+    private final HashedTimingWheel wheel;
+    private final long defaultTtlSeconds;
+    private final long maxTtlSeconds;
+    private final int maxHoldsPerCustomer;
+    private final boolean blockOnPending;
+
+    private final Map<Long, Hold> holds = new ConcurrentHashMap<>();
+    private final Map<String, Integer> activeByCustomer = new ConcurrentHashMap<>();
+    private final AtomicLong nextId = new AtomicLong();
+
+    private final AtomicLong placed = new AtomicLong();
+    private final AtomicLong converted = new AtomicLong();
+    private final AtomicLong released = new AtomicLong();
+    private final AtomicLong expired = new AtomicLong();
+
+    private static final class Hold {
+        private final long id;
+        private final Long propertyId;
+        private final String customerEmail;
+        private final LocalDate startDate;
+        private final LocalDate endDate;
+        private final Instant expiresAt;
+        private volatile HashedTimingWheel.Timeout timeout;
+
+        Hold(long id, Long propertyId, String customerEmail, LocalDate startDate, LocalDate endDate, Instant expiresAt) {
+            this.id = id;
+            this.propertyId = propertyId;
+            this.customerEmail = customerEmail;
+            this.startDate = startDate;
+            this.endDate = endDate;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    public BookingHoldService(BookingAvailabilityIndex availabilityIndex, PropertyRepository propertyRepository,
+                              @Value("${booking.hold.ttl-seconds:600}") long defaultTtlSeconds,
+                              @Value("${booking.hold.max-ttl-seconds:1800}") long maxTtlSeconds,
+                              @Value("${booking.hold.max-per-customer:5}") int maxHoldsPerCustomer,
+                              @Value("${booking.hold.tick-ms:1000}") long tickMillis,
+                              @Value("${booking.availability.block-on-pending:false}") boolean blockOnPending) {
+        this.availabilityIndex = availabilityIndex;
+        this.propertyRepository = propertyRepository;
+        this.defaultTtlSeconds = defaultTtlSeconds;
+        this.maxTtlSeconds = maxTtlSeconds;
+        this.maxHoldsPerCustomer = maxHoldsPerCustomer;
+        this.blockOnPending = blockOnPending;
+        // One turn of the wheel covers the longest hold, so most timeouts fire on their first pass
+        long ticksPerTurn = Math.max(1, TimeUnit.SECONDS.toMillis(maxTtlSeconds) / tickMillis);
+        this.wheel = new HashedTimingWheel("booking-hold-expiry", tickMillis, TimeUnit.MILLISECONDS, (int) Math.min(ticksPerTurn, 1 << 16));
+    }
+
+    public BookingHoldResponse placeHold(Long propertyId, String customerEmail, LocalDate startDate, LocalDate endDate, Long ttlSeconds) {
+        if (startDate == null || endDate == null) {
+            throw new IllegalArgumentException("Start and end dates are required");
+        }
+        if (endDate.isBefore(startDate)) {
+            throw new IllegalArgumentException("End date must not be before start date");
+        }
+        long ttl = ttlSeconds != null ? ttlSeconds : defaultTtlSeconds;
+        if (ttl <= 0 || ttl > maxTtlSeconds) {
+            throw new IllegalArgumentException("Hold duration must be between 1 and " + maxTtlSeconds + " seconds");
+        }
+        if (!propertyRepository.existsById(propertyId)) {
+            throw new IllegalArgumentException("Property not found");
+        }
+        activeByCustomer.compute(customerEmail, (email, active) -> {
+            if (active != null && active >= maxHoldsPerCustomer) {
+                throw new IllegalArgumentException("At most " + maxHoldsPerCustomer + " holds can be active at once");
+            }
+            return active == null ? 1 : active + 1;
+        });
+        Hold hold;
+        try {
+            hold = availabilityIndex.withPropertyLock(propertyId, () -> {
+                if (availabilityIndex.findConflict(propertyId, startDate, endDate, null, blockOnPending) != null) {
+                    throw new BookingConflictException("Property is already booked between " + startDate + " and " + endDate);
+                }
+                if (availabilityIndex.findHoldConflict(propertyId, startDate, endDate, null) != null) {
+                    throw new BookingConflictException("Property is on hold between " + startDate + " and " + endDate);
+                }
+                Hold h = new Hold(nextId.incrementAndGet(), propertyId, customerEmail, startDate, endDate, Instant.now().plusSeconds(ttl));
+                holds.put(h.id, h);
+                availabilityIndex.recordHold(propertyId, h.id, startDate, endDate);
+                h.timeout = wheel.schedule(() -> end(h, expired), ttl, TimeUnit.SECONDS);
+                return h;
+            });
+        } catch (RuntimeException e) {
+            releaseSlot(customerEmail);
+            throw e;
+        }
+        placed.incrementAndGet();
+        logger.info("Hold {} placed on property {} for {} to {} until {}", hold.id, propertyId, startDate, endDate, hold.expiresAt);
+        return toResponse(hold);
+    }
+
+    public void releaseHold(Long holdId, String customerEmail) {
+        Hold hold = ownedHold(holdId, customerEmail);
+        hold.timeout.cancel();
+        end(hold, released);
+    }
+
+    // Checks that a booking request may use the hold: same customer and property, and dates within the held range
+    public void verifyHold(Long holdId, String customerEmail, Long propertyId, LocalDate startDate, LocalDate endDate) {
+        Hold hold = ownedHold(holdId, customerEmail);
+        if (!hold.propertyId.equals(propertyId) || startDate.isBefore(hold.startDate) || endDate.isAfter(hold.endDate)) {
+            throw new IllegalArgumentException("Booking must be for the held property and dates");
+        }
+    }
+
+    // The hold keeps blocking others until the booking that uses it commits, then it is dropped
+    public void releaseAfterCommit(Long holdId) {
+        Hold hold = holds.get(holdId);
+        if (hold == null) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            convert(hold);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                convert(hold);
+            }
+        });
+    }
+
+    private void convert(Hold hold) {
+        hold.timeout.cancel();
+        end(hold, converted);
+    }
+
+    private Hold ownedHold(Long holdId, String customerEmail) {
+        Hold hold = holdId != null ? holds.get(holdId) : null;
+        // Someone else's hold is reported as missing rather than revealing that it exists
+        if (hold == null || !hold.customerEmail.equals(customerEmail)) {
+            throw new IllegalArgumentException("Hold not found or expired");
+        }
+        return hold;
+    }
+
+    private void end(Hold hold, AtomicLong outcome) {
+        availabilityIndex.withPropertyLock(hold.propertyId, () -> {
+            if (holds.remove(hold.id, hold)) {
+                availabilityIndex.removeHold(hold.propertyId, hold.id);
+                releaseSlot(hold.customerEmail);
+                outcome.incrementAndGet();
+            }
+            return null;
+        });
+    }
+
+    private void releaseSlot(String customerEmail) {
+        activeByCustomer.computeIfPresent(customerEmail, (email, active) -> active <= 1 ? null : active - 1);
+    }
+
+    private static BookingHoldResponse toResponse(Hold hold) {
+        return new BookingHoldResponse(hold.id, hold.propertyId, hold.startDate, hold.endDate, hold.expiresAt);
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("active", holds.size());
+        stats.put("scheduledTimeouts", wheel.pendingTimeouts());
+        stats.put("placed", placed.get());
+        stats.put("converted", converted.get());
+        stats.put("released", released.get());
+        stats.put("expired", expired.get());
+        stats.put("defaultTtlSeconds", defaultTtlSeconds);
+        stats.put("maxPerCustomer", maxHoldsPerCustomer);
+        return stats;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        wheel.stop();
+    }
+}
@@ -0,0 +1,62 @@
+package com.commercialspace.service;
+
+import com.commercialspace.event.BookingChangedEvent;
+import com.commercialspace.model.Booking;
+import com.commercialspace.repository.BookingRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+// Fills the persisted pricing columns for bookings created before they existed, in small committed chunks
+@Service
+public class BookingPricingBackfill {
+
+    private static final Logger logger = LoggerFactory.getLogger(BookingPricingBackfill.class);
+    private static final int CHUNK_SIZE = 500;
+
+    private final BookingRepository bookingRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public BookingPricingBackfill(BookingRepository bookingRepository, TransactionTemplate transactionTemplate,
+                                  ApplicationEventPublisher eventPublisher) {
+        this.bookingRepository = bookingRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        long total = 0;
+        while (true) {
+            // Priced rows drop out of the query, so every chunk reads the first page again
+            Integer priced = transactionTemplate.execute(status -> {
+                List<Booking> chunk = bookingRepository.findUnpriced(PageRequest.of(0, CHUNK_SIZE));
+                for (Booking booking : chunk) {
+                    BookingChangedEvent.Snapshot before = BookingChangedEvent.Snapshot.of(booking);
+                    booking.updatePricing();
+                    eventPublisher.publishEvent(new BookingChangedEvent(booking.getId(), before, BookingChangedEvent.Snapshot.of(booking)));
+                }
+                bookingRepository.saveAll(chunk);
+                return chunk.size();
+            });
+            if (priced == null || priced == 0) {
+                break;
+            }
+            total += priced;
+            if (priced < CHUNK_SIZE) {
+                break;
+            }
+        }
+        if (total > 0) {
+            logger.info("Backfilled pricing for {} bookings", total);
+        }
+    }
+}
@@ -1,23 +1,44 @@
 package com.commercialspace.service;
 
+import com.commercialspace.dto.BookingDecisionRequest;
+import com.commercialspace.dto.BookingDecisionResult;
+import com.commercialspace.dto.BookingFilter;
+import com.commercialspace.dto.BookingResponse;
+import com.commercialspace.dto.CursorPage;
+import com.commercialspace.dto.OccupiedRange;
+import com.commercialspace.event.BookingChangedEvent;
 import com.commercialspace.model.Booking;
+import com.commercialspace.model.BookingStatus;
+import com.commercialspace.model.EmailOutbox;
 import com.commercialspace.model.User;
 import com.commercialspace.model.Property;
 import com.commercialspace.repository.BookingRepository;
 import com.commercialspace.repository.UserRepository;
 import com.commercialspace.repository.PropertyRepository;
+import com.commercialspace.util.PageCursor;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
-import org.springframework.mail.SimpleMailMessage;
-import org.springframework.mail.javamail.JavaMailSender;
-import jakarta.mail.internet.MimeMessage;
-import org.springframework.mail.javamail.MimeMessageHelper;
-import com.commercialspace.util.PdfGenerator;
+import org.springframework.transaction.annotation.Transactional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @Service
 public class BookingService {
+    private static final Logger logger = LoggerFactory.getLogger(BookingService.class);
+
     @Autowired
     private BookingRepository bookingRepository;
     @Autowired
@@ -26,9 +47,35 @@ public class BookingService {
     private PropertyRepository propertyRepository;
 
     @Autowired
-    private JavaMailSender mailSender;
+    private BookingAvailabilityIndex availabilityIndex;
+
+    @Autowired
+    private EmailOutboxService emailOutbox;
+
+    @Autowired
+    private BookingHoldService holdService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
 
-    public Booking createBooking(Long propertyId, String customerEmail, LocalDate startDate, LocalDate endDate, String status) {
+    // When set, a pending request also blocks other requests for the same dates, not just accepted bookings
+    @Value("${booking.availability.block-on-pending:false}")
+    private boolean blockOnPending;
+
+    private static final int MAX_CALENDAR_DAYS = 3 * 366;
+    private static final int MAX_BULK_DECISIONS = 200;
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final String ACCEPT = "ACCEPT";
+    private static final String REJECT = "REJECT";
+
+    @Transactional
+    // New bookings are PENDING; ACCEPTED is only reached through the owner's decision in applyAccept
+    public BookingResponse createBooking(Long propertyId, String customerEmail, LocalDate startDate, LocalDate endDate, Long holdId) {
+        validateDates(startDate, endDate);
+        if (holdId != null) {
+            holdService.verifyHold(holdId, customerEmail, propertyId, startDate, endDate);
+        }
         Property property = propertyRepository.findById(propertyId).orElseThrow();
         User customer = userRepository.findByEmail(customerEmail).orElseThrow();
         User owner = property.getOwner();
@@ -38,103 +85,277 @@ public class BookingService {
         booking.setOwner(owner);
         booking.setStartDate(startDate);
         booking.setEndDate(endDate);
-        booking.setStatus(status);
-        Booking savedBooking = bookingRepository.save(booking);
-        // Beautiful HTML email logic
-        try {
-            org.slf4j.LoggerFactory.getLogger(BookingService.class).info("Sending booking confirmation email to customer: {} and owner: {}", customer.getEmail(), owner.getEmail());
-            MimeMessage customerMsg = mailSender.createMimeMessage();
-            MimeMessageHelper customerHelper = new MimeMessageHelper(customerMsg, true);
-            customerHelper.setTo(customer.getEmail());
-            customerHelper.setSubject("Booking Request Submitted - Commercial Space");
-            customerHelper.setText("<div style='font-family:sans-serif;padding:24px;background:#f8fafc;border-radius:8px;'>"
-                + "<h2 style='color:#2563eb;'>Booking Request Submitted</h2>"
-                + "<p style='font-size:16px;color:#334155;'>Your booking request for property <b>" + property.getTitle() + "</b> has been submitted and is pending owner approval.<br>"
-                + "Thank you for choosing Commercial Space!<br><br>"
-                + "<span style='color:#0ea5e9;'>For legal advice, contact our legal team.</span></p>"
-                + "<hr style='margin:24px 0;border:0;border-top:1px solid #e2e8f0;'>"
-                + "<p style='font-size:14px;color:#64748b;'>Commercial Space Team</p></div>", true);
-            mailSender.send(customerMsg);
-
-            MimeMessage ownerMsg = mailSender.createMimeMessage();
-            MimeMessageHelper ownerHelper = new MimeMessageHelper(ownerMsg, true);
-            ownerHelper.setTo(owner.getEmail());
-            ownerHelper.setSubject("New Booking Request - Commercial Space");
-            ownerHelper.setText("<div style='font-family:sans-serif;padding:24px;background:#f8fafc;border-radius:8px;'>"
-                + "<h2 style='color:#2563eb;'>New Booking Request</h2>"
-                + "<p style='font-size:16px;color:#334155;'>You have received a new booking request for your property <b>" + property.getTitle() + "</b> from " + customer.getName() + " (" + customer.getEmail() + ").<br>"
-                + "Thank you for using Commercial Space!<br><br>"
-                + "<span style='color:#0ea5e9;'>For legal advice, contact our legal team.</span></p>"
-                + "<hr style='margin:24px 0;border:0;border-top:1px solid #e2e8f0;'>"
-                + "<p style='font-size:14px;color:#64748b;'>Commercial Space Team</p></div>", true);
-            mailSender.send(ownerMsg);
-            org.slf4j.LoggerFactory.getLogger(BookingService.class).info("Booking emails sent successfully.");
-        } catch (Exception e) {
-            org.slf4j.LoggerFactory.getLogger(BookingService.class).error("Error sending booking emails: {}", e.getMessage());
-        }
-        return savedBooking;
-    }
-
-    public Booking acceptBooking(Long bookingId, String ownerEmail) {
+        booking.setStatus(BookingStatus.PENDING);
+        booking.updatePricing();
+        Booking savedBooking = availabilityIndex.withPropertyLock(propertyId, () -> {
+            Long conflict = availabilityIndex.findConflict(propertyId, startDate, endDate, null, blockOnPending);
+            if (conflict != null) {
+                throw new BookingConflictException("Property is already booked between " + startDate + " and " + endDate);
+            }
+            // Other customers' holds block the dates; the request's own hold does not
+            if (availabilityIndex.findHoldConflict(propertyId, startDate, endDate, holdId) != null) {
+                throw new BookingConflictException("Property is on hold between " + startDate + " and " + endDate);
+            }
+            Booking saved = bookingRepository.save(booking);
+            availabilityIndex.record(propertyId, saved.getId(), startDate, endDate, saved.getStatus());
+            return saved;
+        });
+        if (holdId != null) {
+            holdService.releaseAfterCommit(holdId);
+        }
+        eventPublisher.publishEvent(new BookingChangedEvent(savedBooking.getId(), null, BookingChangedEvent.Snapshot.of(savedBooking)));
+        // Emails go through the outbox in this transaction; the dispatcher delivers them after commit
+        logger.info("Queueing booking confirmation emails to customer: {} and owner: {}", customer.getEmail(), owner.getEmail());
+        emailOutbox.enqueue(customer.getEmail(), "Booking Request Submitted - Commercial Space",
+            emailHtml("Booking Request Submitted",
+                "Your booking request for property <b>" + property.getTitle() + "</b> has been submitted and is pending owner approval.<br>"
+                + "Thank you for choosing Commercial Space!"),
+            savedBooking.getId(), EmailOutbox.Attachment.NONE);
+        emailOutbox.enqueue(owner.getEmail(), "New Booking Request - Commercial Space",
+            emailHtml("New Booking Request",
+                "You have received a new booking request for your property <b>" + property.getTitle() + "</b> from " + customer.getName() + " (" + customer.getEmail() + ").<br>"
+                + "Thank you for using Commercial Space!"),
+            savedBooking.getId(), EmailOutbox.Attachment.NONE);
+        return toResponse(savedBooking);
+    }
+
+    @Transactional
+    public BookingResponse acceptBooking(Long bookingId, String ownerEmail) {
         Booking booking = bookingRepository.findById(bookingId).orElseThrow();
         if (!booking.getOwner().getEmail().equals(ownerEmail)) {
             throw new RuntimeException("Unauthorized: Only the owner can accept this booking.");
         }
-        booking.setStatus("ACCEPTED");
+        applyAccept(booking);
         Booking savedBooking = bookingRepository.save(booking);
-        // Send lease agreement PDF to both users
-        try {
-            byte[] pdfBytes = com.commercialspace.util.PdfGenerator.generateLeaseAgreement(savedBooking);
-            MimeMessage customerMsg = mailSender.createMimeMessage();
-            MimeMessageHelper customerHelper = new MimeMessageHelper(customerMsg, true);
-            customerHelper.setTo(savedBooking.getCustomer().getEmail());
-            customerHelper.setSubject("Lease Agreement - Commercial Space Booking Accepted");
-            customerHelper.setText("<div style='font-family:sans-serif;padding:24px;background:#f8fafc;border-radius:8px;'>"
-                + "<h2 style='color:#2563eb;'>Congratulations! Your booking has been accepted.</h2>"
-                + "<p style='font-size:16px;color:#334155;'>Please find attached your lease agreement for property <b>" + savedBooking.getProperty().getTitle() + "</b>.<br>"
-                + "Thank you for choosing Commercial Space!<br><br>"
-                + "<span style='color:#0ea5e9;'>For legal advice, contact our legal team.</span></p>"
-                + "<hr style='margin:24px 0;border:0;border-top:1px solid #e2e8f0;'>"
-                + "<p style='font-size:14px;color:#64748b;'>Commercial Space Team</p></div>", true);
-            customerHelper.addAttachment("LeaseAgreement.pdf", new org.springframework.core.io.ByteArrayResource(pdfBytes));
-            mailSender.send(customerMsg);
-
-            MimeMessage ownerMsg = mailSender.createMimeMessage();
-            MimeMessageHelper ownerHelper = new MimeMessageHelper(ownerMsg, true);
-            ownerHelper.setTo(savedBooking.getOwner().getEmail());
-            ownerHelper.setSubject("Lease Agreement - Booking Accepted for Your Property");
-            ownerHelper.setText("<div style='font-family:sans-serif;padding:24px;background:#f8fafc;border-radius:8px;'>"
-                + "<h2 style='color:#2563eb;'>Your property booking has been accepted.</h2>"
-                + "<p style='font-size:16px;color:#334155;'>Please find attached the lease agreement for property <b>" + savedBooking.getProperty().getTitle() + "</b>.<br>"
-                + "Thank you for using Commercial Space!<br><br>"
-                + "<span style='color:#0ea5e9;'>For legal advice, contact our legal team.</span></p>"
-                + "<hr style='margin:24px 0;border:0;border-top:1px solid #e2e8f0;'>"
-                + "<p style='font-size:14px;color:#64748b;'>Commercial Space Team</p></div>", true);
-            ownerHelper.addAttachment("LeaseAgreement.pdf", new org.springframework.core.io.ByteArrayResource(pdfBytes));
-            mailSender.send(ownerMsg);
-            org.slf4j.LoggerFactory.getLogger(BookingService.class).info("Lease agreement PDF sent to customer and owner.");
-        } catch (Exception e) {
-            org.slf4j.LoggerFactory.getLogger(BookingService.class).error("Error sending lease agreement PDF: {}", e.getMessage());
-        }
-        return savedBooking;
-    }
-
-    public Booking rejectBooking(Long bookingId, String ownerEmail) {
+        // The lease agreement PDF is rendered by the dispatcher when the emails are delivered
+        emailOutbox.enqueueAll(leaseAgreementEmails(savedBooking));
+        logger.info("Lease agreement emails queued for booking {}", savedBooking.getId());
+        return toResponse(savedBooking);
+    }
+
+    @Transactional
+    public BookingResponse rejectBooking(Long bookingId, String ownerEmail) {
         Booking booking = bookingRepository.findById(bookingId).orElseThrow();
         if (!booking.getOwner().getEmail().equals(ownerEmail)) {
             throw new RuntimeException("Unauthorized: Only the owner can reject this booking.");
         }
-        booking.setStatus("REJECTED");
-        return bookingRepository.save(booking);
+        applyReject(booking);
+        return toResponse(bookingRepository.save(booking));
     }
 
-    public List<Booking> getBookingsByCustomer(String customerEmail) {
-        User customer = userRepository.findByEmail(customerEmail).orElseThrow();
-        return bookingRepository.findByCustomer(customer);
+    // Applies an owner's accept/reject decisions in one transaction. Each decision succeeds or fails on its own; the
+    // bookings are loaded and locked in one select, written back as one batched update and their emails queued as one
+    // batched insert.
+    @Transactional
+    public List<BookingDecisionResult> decideBookings(List<BookingDecisionRequest> decisions, String ownerEmail) {
+        if (decisions == null || decisions.isEmpty()) {
+            throw new IllegalArgumentException("At least one decision is required");
+        }
+        if (decisions.size() > MAX_BULK_DECISIONS) {
+            throw new IllegalArgumentException("At most " + MAX_BULK_DECISIONS + " decisions can be applied at once");
+        }
+        Set<Long> ids = new HashSet<>();
+        for (BookingDecisionRequest decision : decisions) {
+            if (decision != null && decision.getBookingId() != null) {
+                ids.add(decision.getBookingId());
+            }
+        }
+        Map<Long, Booking> bookings = new HashMap<>();
+        if (!ids.isEmpty()) {
+            for (Booking booking : bookingRepository.findAllWithPartiesByIdIn(ids)) {
+                bookings.put(booking.getId(), booking);
+            }
+        }
+        List<BookingDecisionResult> results = new ArrayList<>(decisions.size());
+        List<Booking> changed = new ArrayList<>();
+        List<EmailOutbox> emails = new ArrayList<>();
+        Set<Long> decided = new HashSet<>();
+        for (BookingDecisionRequest decision : decisions) {
+            Long id = decision != null ? decision.getBookingId() : null;
+            String action = decision != null && decision.getAction() != null ? decision.getAction().trim().toUpperCase() : null;
+            Booking booking = id != null ? bookings.get(id) : null;
+            String error = null;
+            if (booking == null) {
+                error = "Booking not found";
+            } else if (!booking.getOwner().getEmail().equals(ownerEmail)) {
+                error = "Unauthorized: Only the owner can decide this booking.";
+            } else if (!ACCEPT.equals(action) && !REJECT.equals(action)) {
+                error = "Action must be ACCEPT or REJECT";
+            } else if (!decided.add(id)) {
+                error = "Duplicate decision for this booking";
+            }
+            if (error != null) {
+                results.add(BookingDecisionResult.failed(id, action, error));
+                continue;
+            }
+            try {
+                if (ACCEPT.equals(action)) {
+                    applyAccept(booking);
+                    emails.addAll(leaseAgreementEmails(booking));
+                } else {
+                    applyReject(booking);
+                }
+            } catch (BookingConflictException e) {
+                // Also catches two accepts in the same request that overlap each other
+                results.add(BookingDecisionResult.failed(id, action, e.getMessage()));
+                continue;
+            }
+            changed.add(booking);
+            results.add(BookingDecisionResult.applied(id, action, toResponse(booking)));
+        }
+        bookingRepository.saveAll(changed);
+        emailOutbox.enqueueAll(emails);
+        logger.info("Applied {} of {} booking decisions for {}, {} emails queued", changed.size(), decisions.size(), ownerEmail, emails.size());
+        return results;
+    }
+
+    private void applyAccept(Booking booking) {
+        BookingChangedEvent.Snapshot before = BookingChangedEvent.Snapshot.of(booking);
+        Long propertyId = booking.getProperty().getId();
+        availabilityIndex.withPropertyLock(propertyId, () -> {
+            Long conflict = availabilityIndex.findConflict(propertyId, booking.getStartDate(), booking.getEndDate(), booking.getId(), false);
+            if (conflict != null) {
+                throw new BookingConflictException("Booking " + conflict + " is already accepted for overlapping dates");
+            }
+            // A live hold was promised those dates; the accept waits until the hold converts, is released or lapses
+            if (availabilityIndex.findHoldConflict(propertyId, booking.getStartDate(), booking.getEndDate(), null) != null) {
+                throw new BookingConflictException("Property is on hold between " + booking.getStartDate() + " and " + booking.getEndDate());
+            }
+            transition(booking, BookingStatus.ACCEPTED);
+            // The accepted price is the property's rate at acceptance time
+            booking.updatePricing();
+            availabilityIndex.record(propertyId, booking.getId(), booking.getStartDate(), booking.getEndDate(), booking.getStatus());
+            return booking;
+        });
+        eventPublisher.publishEvent(new BookingChangedEvent(booking.getId(), before, BookingChangedEvent.Snapshot.of(booking)));
+    }
+
+    private void applyReject(Booking booking) {
+        BookingChangedEvent.Snapshot before = BookingChangedEvent.Snapshot.of(booking);
+        Long propertyId = booking.getProperty().getId();
+        availabilityIndex.withPropertyLock(propertyId, () -> {
+            transition(booking, BookingStatus.REJECTED);
+            availabilityIndex.remove(propertyId, booking.getId());
+            return booking;
+        });
+        eventPublisher.publishEvent(new BookingChangedEvent(booking.getId(), before, BookingChangedEvent.Snapshot.of(booking)));
+    }
+
+    // A repeated or late decision (e.g. a double click) is a conflict, not a silent overwrite
+    private static void transition(Booking booking, BookingStatus next) {
+        if (!booking.getStatus().canTransitionTo(next)) {
+            throw new BookingConflictException("Booking " + booking.getId() + " is already " + booking.getStatus() + " and cannot be " + next);
+        }
+        booking.setStatus(next);
+    }
+
+    private List<EmailOutbox> leaseAgreementEmails(Booking booking) {
+        String title = booking.getProperty().getTitle();
+        return List.of(
+            emailOutbox.compose(booking.getCustomer().getEmail(), "Lease Agreement - Commercial Space Booking Accepted",
+                emailHtml("Congratulations! Your booking has been accepted.",
+                    "Please find attached your lease agreement for property <b>" + title + "</b>.<br>"
+                    + "Thank you for choosing Commercial Space!"),
+                booking.getId(), EmailOutbox.Attachment.LEASE_AGREEMENT),
+            emailOutbox.compose(booking.getOwner().getEmail(), "Lease Agreement - Booking Accepted for Your Property",
+                emailHtml("Your property booking has been accepted.",
+                    "Please find attached the lease agreement for property <b>" + title + "</b>.<br>"
+                    + "Thank you for using Commercial Space!"),
+                booking.getId(), EmailOutbox.Attachment.LEASE_AGREEMENT));
+    }
+
+    public List<OccupiedRange> getOccupancyCalendar(Long propertyId, LocalDate from, LocalDate to) {
+        if (!propertyRepository.existsById(propertyId)) {
+            throw new IllegalArgumentException("Property not found");
+        }
+        LocalDate start = from != null ? from : LocalDate.now();
+        LocalDate end = to != null ? to : start.plusDays(365);
+        if (end.isBefore(start)) {
+            throw new IllegalArgumentException("'to' must not be before 'from'");
+        }
+        if (end.toEpochDay() - start.toEpochDay() > MAX_CALENDAR_DAYS) {
+            throw new IllegalArgumentException("Calendar range must not exceed " + MAX_CALENDAR_DAYS + " days");
+        }
+        return availabilityIndex.occupied(propertyId, start, end);
+    }
+
+    private static BookingResponse toResponse(Booking b) {
+        Property p = b.getProperty();
+        User c = b.getCustomer();
+        User o = b.getOwner();
+        return new BookingResponse(b.getId(), p.getId(), p.getTitle(), p.getAddress(), p.getCity(), p.getPrice(), p.getPhotoUrl(),
+            c.getId(), c.getName(), c.getEmail(), o.getId(), o.getName(), o.getEmail(),
+            b.getStatus(), b.getStartDate(), b.getEndDate(), b.getCreatedAt(), b.getTotalPriceAmount(), b.getDurationDays(), b.getDurationMonths());
+    }
+
+    private static String emailHtml(String heading, String message) {
+        return "<div style='font-family:sans-serif;padding:24px;background:#f8fafc;border-radius:8px;'>"
+            + "<h2 style='color:#2563eb;'>" + heading + "</h2>"
+            + "<p style='font-size:16px;color:#334155;'>" + message + "<br><br>"
+            + "<span style='color:#0ea5e9;'>For legal advice, contact our legal team.</span></p>"
+            + "<hr style='margin:24px 0;border:0;border-top:1px solid #e2e8f0;'>"
+            + "<p style='font-size:14px;color:#64748b;'>Commercial Space Team</p></div>";
+    }
+
+    private static void validateDates(LocalDate startDate, LocalDate endDate) {
+        if (startDate == null || endDate == null) {
+            throw new IllegalArgumentException("Start and end dates are required");
+        }
+        if (endDate.isBefore(startDate)) {
+            throw new IllegalArgumentException("End date must not be before start date");
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<BookingResponse> getCustomerBookingHistory(String customerEmail, BookingFilter filter, String cursor, int size) {
+        User customer = userRepository.findByEmail(customerEmail).orElseThrow(() -> new IllegalArgumentException("User not found"));
+        return historyPage(cursor, size, (afterCreatedAt, afterId, pageable) -> bookingRepository.findCustomerHistoryPage(customer.getId(),
+            afterCreatedAt, afterId, filter.getStatus(), filter.getPropertyId(), filter.getFrom(), filter.getTo(), pageable));
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<BookingResponse> getOwnerBookingHistory(String ownerEmail, BookingFilter filter, String cursor, int size) {
+        User owner = userRepository.findByEmail(ownerEmail).orElseThrow(() -> new IllegalArgumentException("User not found"));
+        return historyPage(cursor, size, (afterCreatedAt, afterId, pageable) -> bookingRepository.findOwnerHistoryPage(owner.getId(),
+            afterCreatedAt, afterId, filter.getStatus(), filter.getPropertyId(), filter.getFrom(), filter.getTo(), pageable));
+    }
+
+    private interface HistoryQuery {
+        List<BookingResponse> fetch(LocalDateTime afterCreatedAt, Long afterId, Pageable pageable);
+    }
+
+    // Keyset page on (createdAt desc, id desc): each page is an index range seek, so cost does not grow with account age
+    private static CursorPage<BookingResponse> historyPage(String cursor, int size, HistoryQuery query) {
+        int limit = size <= 0 ? DEFAULT_PAGE_SIZE : Math.min(size, MAX_PAGE_SIZE);
+        LocalDateTime afterCreatedAt = null;
+        Long afterId = null;
+        if (cursor != null && !cursor.isBlank()) {
+            String[] keys = PageCursor.decode(cursor, 2);
+            try {
+                afterCreatedAt = LocalDateTime.parse(keys[0]);
+                afterId = Long.parseLong(keys[1]);
+            } catch (DateTimeParseException | NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+        }
+        // Fetch one extra row to know whether another page exists
+        List<BookingResponse> rows = query.fetch(afterCreatedAt, afterId, PageRequest.of(0, limit + 1));
+        boolean hasMore = rows.size() > limit;
+        if (hasMore) {
+            rows = rows.subList(0, limit);
+        }
+        BookingResponse last = hasMore ? rows.get(rows.size() - 1) : null;
+        String nextCursor = last != null ? PageCursor.encode(last.getCreatedAt(), last.getId()) : null;
+        return new CursorPage<>(rows, nextCursor);
+    }
+
+    @Transactional(readOnly = true)
+    public List<BookingResponse> getBookingsByCustomer(String customerEmail) {
+        return bookingRepository.findResponsesByCustomerEmail(customerEmail);
     }
 
-    public List<Booking> getBookingsByOwner(String ownerEmail) {
-        User owner = userRepository.findByEmail(ownerEmail).orElseThrow();
-        return bookingRepository.findByOwner(owner);
+    @Transactional(readOnly = true)
+    public List<BookingResponse> getBookingsByOwner(String ownerEmail) {
+        return bookingRepository.findResponsesByOwnerEmail(ownerEmail);
     }
 }
\ No newline at end of file
@@ -0,0 +1,42 @@
+package com.commercialspace.service;
+
+import com.commercialspace.event.PropertyChangedEvent;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Monotonic catalog versions backing the ETags on public property reads
+@Service
+public class CatalogVersionService {
+
+    // Versions restart with the process, so the boot time is part of every tag
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final AtomicLong catalogVersion = new AtomicLong();
+    private final Map<Long, Long> propertyVersions = new ConcurrentHashMap<>();
+
+    // Runs after the indexes and the detail cache have applied the same event, so a new tag never
+    // describes data those structures have not caught up with yet
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    public void onPropertyChanged(PropertyChangedEvent event) {
+        long version = catalogVersion.incrementAndGet();
+        propertyVersions.put(event.getPropertyId(), version);
+    }
+
+    public long getCatalogVersion() {
+        return catalogVersion.get();
+    }
+
+    public String catalogETag() {
+        return "\"c-" + epoch + "-" + catalogVersion.get() + "\"";
+    }
+
+    public String propertyETag(Long propertyId) {
+        return "\"p-" + epoch + "-" + propertyId + "-" + propertyVersions.getOrDefault(propertyId, 0L) + "\"";
+    }
+}
@@ -0,0 +1,185 @@
+package com.commercialspace.service;
+
+import com.commercialspace.model.EmailOutbox;
+import com.commercialspace.repository.EmailOutboxRepository;
+import jakarta.mail.internet.MimeMessage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+// Transactional email outbox: writers enqueue rows inside their own transaction, a scheduled dispatcher delivers them
+@Service
+public class EmailOutboxService {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmailOutboxService.class);
+    private static final long MAX_BACKOFF_SECONDS = 3600;
+    private static final long RENDER_TIMEOUT_SECONDS = 60;
+    private static final Set<EmailOutbox.Status> DISPATCHABLE = EnumSet.of(EmailOutbox.Status.PENDING, EmailOutbox.Status.SENDING);
+
+    private final EmailOutboxRepository outboxRepository;
+    private final LeaseRenderingService leaseRenderingService;
+    private final JavaMailSender mailSender;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final long backoffSeconds;
+    private final long leaseSeconds;
+
+    public EmailOutboxService(EmailOutboxRepository outboxRepository, LeaseRenderingService leaseRenderingService, JavaMailSender mailSender,
+                              @Value("${email.outbox.batch-size:50}") int batchSize,
+                              @Value("${email.outbox.max-attempts:6}") int maxAttempts,
+                              @Value("${email.outbox.backoff-seconds:30}") long backoffSeconds,
+                              @Value("${email.outbox.lease-seconds:600}") long leaseSeconds) {
+        this.outboxRepository = outboxRepository;
+        this.leaseRenderingService = leaseRenderingService;
+        this.mailSender = mailSender;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.backoffSeconds = backoffSeconds;
+        this.leaseSeconds = leaseSeconds;
+    }
+
+    // Joins the caller's transaction, so the email is only ever sent if the triggering change commits
+    public EmailOutbox enqueue(String recipient, String subject, String htmlBody, Long bookingId, EmailOutbox.Attachment attachment) {
+        return outboxRepository.save(compose(recipient, subject, htmlBody, bookingId, attachment));
+    }
+
+    // Queues many emails with one batched insert; same transactional guarantee as enqueue
+    public List<EmailOutbox> enqueueAll(List<EmailOutbox> emails) {
+        return emails.isEmpty() ? emails : outboxRepository.saveAll(emails);
+    }
+
+    public EmailOutbox compose(String recipient, String subject, String htmlBody, Long bookingId, EmailOutbox.Attachment attachment) {
+        EmailOutbox email = new EmailOutbox();
+        email.setRecipient(recipient);
+        email.setSubject(subject);
+        email.setHtmlBody(htmlBody);
+        email.setBookingId(bookingId);
+        email.setAttachment(attachment);
+        return email;
+    }
+
+    @Scheduled(fixedDelayString = "${email.outbox.poll-interval-ms:2000}")
+    public void dispatchDue() {
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> due = outboxRepository.findDueIds(DISPATCHABLE, now, PageRequest.of(0, batchSize));
+        if (due.isEmpty()) {
+            return;
+        }
+        // Claim the rows before sending, so an overlapping poll or another instance cannot send them too. The lease
+        // must outlast a batch; a dispatcher that dies mid-batch leaves its claims to expire and be retried.
+        String token = UUID.randomUUID().toString();
+        outboxRepository.claim(due, DISPATCHABLE, EmailOutbox.Status.SENDING, token, now.plusSeconds(leaseSeconds), now);
+        List<EmailOutbox> batch = outboxRepository.findByClaimToken(token);
+        if (batch.isEmpty()) {
+            return;
+        }
+        // Render each booking's lease once, in parallel on the rendering pool; customer and owner copies share it
+        Map<Long, CompletableFuture<byte[]>> leaseAgreements = new HashMap<>();
+        for (EmailOutbox email : batch) {
+            if (email.getAttachment() == EmailOutbox.Attachment.LEASE_AGREEMENT) {
+                leaseAgreements.computeIfAbsent(email.getBookingId(), leaseRenderingService::render);
+            }
+        }
+        Map<MimeMessage, EmailOutbox> messages = new LinkedHashMap<>();
+        for (EmailOutbox email : batch) {
+            try {
+                messages.put(buildMessage(email, leaseAgreements), email);
+            } catch (Exception e) {
+                markFailedAttempt(email, e);
+            }
+        }
+        if (!messages.isEmpty()) {
+            Map<Object, Exception> failures = Map.of();
+            try {
+                // A single send call reuses one SMTP connection for the whole batch
+                mailSender.send(messages.keySet().toArray(new MimeMessage[0]));
+            } catch (MailSendException e) {
+                failures = e.getFailedMessages();
+            } catch (MailException e) {
+                failures = new HashMap<>();
+                for (MimeMessage message : messages.keySet()) {
+                    failures.put(message, e);
+                }
+            }
+            for (Map.Entry<MimeMessage, EmailOutbox> entry : messages.entrySet()) {
+                Exception failure = failures.get(entry.getKey());
+                if (failure != null) {
+                    markFailedAttempt(entry.getValue(), failure);
+                } else {
+                    entry.getValue().setStatus(EmailOutbox.Status.SENT);
+                    entry.getValue().setSentAt(LocalDateTime.now());
+                    entry.getValue().setLastError(null);
+                    entry.getValue().setClaimToken(null);
+                }
+            }
+        }
+        outboxRepository.saveAll(batch);
+        long sent = batch.stream().filter(e -> e.getStatus() == EmailOutbox.Status.SENT).count();
+        logger.info("Email outbox dispatched {} of {} due messages", sent, batch.size());
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new HashMap<>();
+        for (EmailOutbox.Status status : EmailOutbox.Status.values()) {
+            stats.put(status.name().toLowerCase(), outboxRepository.countByStatus(status));
+        }
+        stats.put("batchSize", batchSize);
+        stats.put("maxAttempts", maxAttempts);
+        return stats;
+    }
+
+    private MimeMessage buildMessage(EmailOutbox email, Map<Long, CompletableFuture<byte[]>> leaseAgreements) throws Exception {
+        MimeMessage message = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(message, true);
+        helper.setTo(email.getRecipient());
+        helper.setSubject(email.getSubject());
+        helper.setText(email.getHtmlBody(), true);
+        if (email.getAttachment() == EmailOutbox.Attachment.LEASE_AGREEMENT) {
+            byte[] pdf;
+            try {
+                pdf = leaseAgreements.get(email.getBookingId()).get(RENDER_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            } catch (ExecutionException e) {
+                throw e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+            }
+            helper.addAttachment("LeaseAgreement.pdf", new ByteArrayResource(pdf));
+        }
+        return message;
+    }
+
+    private void markFailedAttempt(EmailOutbox email, Exception e) {
+        int attempts = email.getAttempts() + 1;
+        email.setAttempts(attempts);
+        email.setClaimToken(null);
+        String error = e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+        email.setLastError(error.length() > 1000 ? error.substring(0, 1000) : error);
+        if (attempts >= maxAttempts) {
+            email.setStatus(EmailOutbox.Status.FAILED);
+            logger.error("Giving up on email {} to {} after {} attempts: {}", email.getId(), email.getRecipient(), attempts, error);
+            return;
+        }
+        long delay = Math.min(MAX_BACKOFF_SECONDS, backoffSeconds << Math.min(attempts - 1, 20));
+        email.setStatus(EmailOutbox.Status.PENDING);
+        email.setNextAttemptAt(LocalDateTime.now().plusSeconds(delay));
+        logger.warn("Email {} to {} failed (attempt {}), retrying in {}s: {}", email.getId(), email.getRecipient(), attempts, delay, error);
+    }
+}
@@ -0,0 +1,8 @@
+package com.commercialspace.service;
+
+// Thrown when an Idempotency-Key is reused with a different request or its first request is still running; mapped to 409 Conflict
+public class IdempotencyConflictException extends RuntimeException {
+    public IdempotencyConflictException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,231 @@
+package com.commercialspace.service;
+
+import com.commercialspace.model.IdempotencyKey;
+import com.commercialspace.repository.IdempotencyKeyRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+// Runs a request at most once per Idempotency-Key. Results live in memory for fast replays and in idempotency_keys,
+// written in the same transaction as the work itself, so replays survive restarts and work across instances.
+@Service
+public class IdempotencyService {
+
+    private static final Logger logger = LoggerFactory.getLogger(IdempotencyService.class);
+    private static final int MAX_KEY_LENGTH = 255;
+    private static final long AWAIT_SECONDS = 30;
+
+    private final IdempotencyKeyRepository repository;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final long ttlSeconds;
+    private final int maxMemoryEntries;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    private final AtomicLong executions = new AtomicLong();
+    private final AtomicLong memoryReplays = new AtomicLong();
+    private final AtomicLong storeReplays = new AtomicLong();
+
+    private static final class Entry {
+        private final String fingerprint;
+        private final LocalDateTime expiresAt;
+        // Completed by the first request; concurrent retries wait on it instead of running the work again
+        private final CompletableFuture<Object> result = new CompletableFuture<>();
+
+        Entry(String fingerprint, LocalDateTime expiresAt) {
+            this.fingerprint = fingerprint;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    public IdempotencyService(IdempotencyKeyRepository repository, TransactionTemplate transactionTemplate, ObjectMapper objectMapper,
+                              @Value("${idempotency.ttl-hours:24}") long ttlHours,
+                              @Value("${idempotency.memory.max-entries:10000}") int maxMemoryEntries) {
+        this.repository = repository;
+        this.transactionTemplate = transactionTemplate;
+        this.objectMapper = objectMapper;
+        this.ttlSeconds = ttlHours * 3600;
+        this.maxMemoryEntries = maxMemoryEntries;
+    }
+
+    // Returns the stored result for (scope, key) or runs the action in a new transaction and stores its result there.
+    // Failed actions are not stored, so the client can retry them with the same key.
+    public <T> T execute(String scope, String key, String fingerprint, Class<T> type, Supplier<T> action) {
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException("Idempotency-Key must be between 1 and " + MAX_KEY_LENGTH + " characters");
+        }
+        String id = scope + "\n" + key;
+        while (true) {
+            LocalDateTime now = LocalDateTime.now();
+            Entry entry = entries.get(id);
+            if (entry != null && !entry.expiresAt.isAfter(now)) {
+                entries.remove(id, entry);
+                entry = null;
+            }
+            if (entry != null) {
+                checkFingerprint(entry.fingerprint, fingerprint);
+                Object result = await(entry);
+                if (result == null) {
+                    // The first attempt failed; start over and run the action ourselves
+                    continue;
+                }
+                memoryReplays.incrementAndGet();
+                return type.cast(result);
+            }
+            // Not in memory: it may have been stored before a restart or by another instance
+            Optional<IdempotencyKey> stored = findLive(scope, key, now);
+            if (stored.isPresent()) {
+                T result = replay(stored.get(), fingerprint, type);
+                storeReplays.incrementAndGet();
+                remember(id, stored.get().getFingerprint(), stored.get().getExpiresAt(), result);
+                return result;
+            }
+            Entry mine = new Entry(fingerprint, now.plusSeconds(ttlSeconds));
+            if (entries.putIfAbsent(id, mine) != null) {
+                continue;
+            }
+            return run(id, scope, key, mine, type, action);
+        }
+    }
+
+    private <T> T run(String id, String scope, String key, Entry mine, Class<T> type, Supplier<T> action) {
+        T result;
+        try {
+            result = transactionTemplate.execute(status -> {
+                T value = action.get();
+                repository.save(new IdempotencyKey(scope, key, mine.fingerprint, serialize(value), mine.expiresAt));
+                return value;
+            });
+            executions.incrementAndGet();
+        } catch (DataIntegrityViolationException e) {
+            // Another instance stored the same key first; our work was rolled back with the insert, so replay theirs.
+            // If no such row exists the violation came from the work itself and is rethrown.
+            try {
+                IdempotencyKey stored = findLive(scope, key, LocalDateTime.now()).orElseThrow(() -> e);
+                result = replay(stored, mine.fingerprint, type);
+            } catch (RuntimeException replayFailure) {
+                entries.remove(id, mine);
+                mine.result.complete(null);
+                throw replayFailure;
+            }
+            storeReplays.incrementAndGet();
+        } catch (RuntimeException e) {
+            entries.remove(id, mine);
+            mine.result.complete(null);
+            throw e;
+        }
+        mine.result.complete(result);
+        if (entries.size() > maxMemoryEntries) {
+            // Over the memory budget: the stored row still serves replays, just one query slower
+            entries.remove(id, mine);
+        }
+        return result;
+    }
+
+    private Optional<IdempotencyKey> findLive(String scope, String key, LocalDateTime now) {
+        return repository.findByScopeAndKey(scope, key).filter(k -> k.getExpiresAt().isAfter(now));
+    }
+
+    private void remember(String id, String fingerprint, LocalDateTime expiresAt, Object result) {
+        if (entries.size() >= maxMemoryEntries) {
+            return;
+        }
+        Entry entry = new Entry(fingerprint, expiresAt);
+        entry.result.complete(result);
+        entries.putIfAbsent(id, entry);
+    }
+
+    private static Object await(Entry entry) {
+        try {
+            return entry.result.get(AWAIT_SECONDS, TimeUnit.SECONDS);
+        } catch (TimeoutException e) {
+            throw new IdempotencyConflictException("A request with this Idempotency-Key is still being processed");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IdempotencyConflictException("A request with this Idempotency-Key is still being processed");
+        } catch (ExecutionException | CancellationException e) {
+            return null;
+        }
+    }
+
+    private <T> T replay(IdempotencyKey stored, String fingerprint, Class<T> type) {
+        checkFingerprint(stored.getFingerprint(), fingerprint);
+        try {
+            return objectMapper.readValue(stored.getResponseBody(), type);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Stored idempotent response could not be read", e);
+        }
+    }
+
+    private String serialize(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Idempotent response could not be stored", e);
+        }
+    }
+
+    private static void checkFingerprint(String expected, String actual) {
+        if (!expected.equals(actual)) {
+            throw new IdempotencyConflictException("Idempotency-Key was already used with a different request");
+        }
+    }
+
+    // SHA-256 of the request's significant fields, hex encoded
+    public static String fingerprint(Object... parts) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (Object part : parts) {
+                digest.update(String.valueOf(part).getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) 0);
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${idempotency.purge-interval-ms:600000}")
+    public void purgeExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        entries.entrySet().removeIf(e -> e.getValue().result.isDone() && !e.getValue().expiresAt.isAfter(now));
+        Integer deleted = transactionTemplate.execute(status -> repository.deleteExpired(now));
+        if (deleted != null && deleted > 0) {
+            logger.info("Purged {} expired idempotency keys", deleted);
+        }
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("memoryEntries", entries.size());
+        stats.put("maxMemoryEntries", maxMemoryEntries);
+        stats.put("ttlHours", ttlSeconds / 3600);
+        stats.put("executions", executions.get());
+        stats.put("memoryReplays", memoryReplays.get());
+        stats.put("storeReplays", storeReplays.get());
+        return stats;
+    }
+}
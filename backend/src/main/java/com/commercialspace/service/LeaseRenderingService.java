@@ -0,0 +1,116 @@
+package com.commercialspace.service;
+
+import com.commercialspace.repository.BookingRepository;
+import com.commercialspace.util.PdfGenerator;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Renders lease agreement PDFs on a small bounded pool so a burst of accepts cannot take over request or mail threads
+@Service
+public class LeaseRenderingService {
+
+    private static final Logger logger = LoggerFactory.getLogger(LeaseRenderingService.class);
+
+    private final BookingRepository bookingRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ThreadPoolExecutor executor;
+    private final long startedAt = System.currentTimeMillis();
+
+    private final AtomicLong submitted = new AtomicLong();
+    private final AtomicLong completed = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong totalRenderNanos = new AtomicLong();
+    private final AtomicLong maxRenderNanos = new AtomicLong();
+    private final AtomicLong totalQueueNanos = new AtomicLong();
+
+    public LeaseRenderingService(BookingRepository bookingRepository, TransactionTemplate transactionTemplate,
+                                 @Value("${lease.rendering.threads:2}") int threads,
+                                 @Value("${lease.rendering.queue-capacity:100}") int queueCapacity) {
+        this.bookingRepository = bookingRepository;
+        this.transactionTemplate = transactionTemplate;
+        AtomicInteger threadNumber = new AtomicInteger();
+        // A full queue rejects instead of running on the caller, so the backlog stays bounded and callers retry later
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            runnable -> {
+                Thread thread = new Thread(runnable, "lease-render-" + threadNumber.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            },
+            new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    public CompletableFuture<byte[]> render(Long bookingId) {
+        long queuedAt = System.nanoTime();
+        submitted.incrementAndGet();
+        try {
+            return CompletableFuture.supplyAsync(() -> renderNow(bookingId, queuedAt), executor);
+        } catch (RejectedExecutionException e) {
+            rejected.incrementAndGet();
+            return CompletableFuture.failedFuture(new IllegalStateException("Lease rendering queue is full", e));
+        }
+    }
+
+    private byte[] renderNow(Long bookingId, long queuedAt) {
+        long start = System.nanoTime();
+        totalQueueNanos.addAndGet(start - queuedAt);
+        try {
+            byte[] pdf = transactionTemplate.execute(status -> {
+                try {
+                    return PdfGenerator.generateLeaseAgreement(bookingRepository.findById(bookingId).orElseThrow());
+                } catch (Exception e) {
+                    throw new IllegalStateException("Could not render lease agreement for booking " + bookingId, e);
+                }
+            });
+            long elapsed = System.nanoTime() - start;
+            completed.incrementAndGet();
+            totalRenderNanos.addAndGet(elapsed);
+            maxRenderNanos.accumulateAndGet(elapsed, Math::max);
+            return pdf;
+        } catch (RuntimeException e) {
+            failed.incrementAndGet();
+            logger.error("Lease rendering failed for booking {}: {}", bookingId, e.getMessage());
+            throw e;
+        }
+    }
+
+    public Map<String, Object> getStats() {
+        long done = completed.get();
+        long started = done + failed.get();
+        double uptimeMinutes = Math.max(1, System.currentTimeMillis() - startedAt) / 60_000.0;
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("threads", executor.getMaximumPoolSize());
+        stats.put("active", executor.getActiveCount());
+        stats.put("queued", executor.getQueue().size());
+        stats.put("queueCapacity", executor.getQueue().size() + executor.getQueue().remainingCapacity());
+        stats.put("submitted", submitted.get());
+        stats.put("completed", done);
+        stats.put("failed", failed.get());
+        stats.put("rejected", rejected.get());
+        stats.put("avgRenderMs", done == 0 ? 0.0 : totalRenderNanos.get() / 1_000_000.0 / done);
+        stats.put("maxRenderMs", maxRenderNanos.get() / 1_000_000.0);
+        stats.put("avgQueueWaitMs", started == 0 ? 0.0 : totalQueueNanos.get() / 1_000_000.0 / started);
+        stats.put("rendersPerMinute", done / uptimeMinutes);
+        return stats;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,171 @@
+package com.commercialspace.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+// Streams the property table to admin exports row by row, so memory use does not grow with the catalog
+@Service
+public class PropertyExportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(PropertyExportService.class);
+
+    private static final String EXPORT_SQL = "SELECT p.id, p.title, p.description, p.address, p.city, p.state, p.country, p.price,"
+        + " p.verified, p.type, p.area, p.latitude, p.longitude, p.photo_url, u.email AS owner_email, u.name AS owner_name,"
+        + " COALESCE(s.review_count, 0) AS review_count, COALESCE(s.rating_sum, 0) AS rating_sum"
+        + " FROM properties p JOIN users u ON u.id = p.owner_id"
+        + " LEFT JOIN property_rating_stats s ON s.property_id = p.id"
+        + " ORDER BY p.id";
+
+    private static final String[] COLUMNS = {
+        "id", "title", "description", "address", "city", "state", "country", "price", "verified", "type", "area",
+        "latitude", "longitude", "photoUrl", "ownerEmail", "ownerName", "reviewCount", "averageRating"
+    };
+
+    public enum Format {
+        NDJSON,
+        CSV
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final int fetchSize;
+
+    // The default of Integer.MIN_VALUE makes MySQL Connector/J stream rows instead of buffering the result set;
+    // a positive value only streams when the JDBC URL sets useCursorFetch=true
+    public PropertyExportService(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper,
+                                 @Value("${property.export.fetch-size:" + Integer.MIN_VALUE + "}") int fetchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.fetchSize = fetchSize;
+    }
+
+    public void export(Format format, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        JsonGenerator json = null;
+        if (format == Format.NDJSON) {
+            json = objectMapper.getFactory().createGenerator(writer);
+            // One object per line: no separator between root values, and no network flush per row
+            json.setRootValueSeparator(null);
+            json.disable(JsonGenerator.Feature.FLUSH_PASSED_TO_STREAM);
+        }
+        JsonGenerator rowJson = json;
+        if (format == Format.CSV) {
+            writer.write(String.join(",", COLUMNS));
+            writer.write("\n");
+        }
+        long[] rows = { 0 };
+        try {
+            jdbcTemplate.query(connection -> {
+                PreparedStatement ps = connection.prepareStatement(EXPORT_SQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                ps.setFetchSize(fetchSize);
+                return ps;
+            }, (RowCallbackHandler) rs -> {
+                try {
+                    if (rowJson != null) {
+                        writeJson(rowJson, rs);
+                        rowJson.flush();
+                        writer.write("\n");
+                    } else {
+                        writeCsv(writer, rs);
+                    }
+                    rows[0]++;
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            // Client went away mid-stream; stop reading and release the cursor
+            logger.warn("Property export aborted after {} rows: {}", rows[0], e.getCause().getMessage());
+            throw e.getCause();
+        }
+        writer.flush();
+        logger.info("Exported {} properties as {}", rows[0], format);
+    }
+
+    private static void writeJson(JsonGenerator json, ResultSet rs) throws IOException, SQLException {
+        json.writeStartObject();
+        json.writeNumberField("id", rs.getLong("id"));
+        json.writeStringField("title", rs.getString("title"));
+        json.writeStringField("description", rs.getString("description"));
+        json.writeStringField("address", rs.getString("address"));
+        json.writeStringField("city", rs.getString("city"));
+        json.writeStringField("state", rs.getString("state"));
+        json.writeStringField("country", rs.getString("country"));
+        json.writeNumberField("price", rs.getBigDecimal("price"));
+        json.writeBooleanField("verified", rs.getBoolean("verified"));
+        json.writeStringField("type", rs.getString("type"));
+        writeNullableNumber(json, "area", rs.getObject("area") != null ? rs.getInt("area") : null);
+        writeNullableNumber(json, "latitude", rs.getObject("latitude") != null ? rs.getDouble("latitude") : null);
+        writeNullableNumber(json, "longitude", rs.getObject("longitude") != null ? rs.getDouble("longitude") : null);
+        json.writeStringField("photoUrl", rs.getString("photo_url"));
+        json.writeStringField("ownerEmail", rs.getString("owner_email"));
+        json.writeStringField("ownerName", rs.getString("owner_name"));
+        long reviewCount = rs.getLong("review_count");
+        json.writeNumberField("reviewCount", reviewCount);
+        json.writeNumberField("averageRating", averageRating(reviewCount, rs.getLong("rating_sum")));
+        json.writeEndObject();
+    }
+
+    private static void writeCsv(Writer writer, ResultSet rs) throws IOException, SQLException {
+        long reviewCount = rs.getLong("review_count");
+        Object[] values = {
+            rs.getLong("id"), rs.getString("title"), rs.getString("description"), rs.getString("address"),
+            rs.getString("city"), rs.getString("state"), rs.getString("country"), rs.getBigDecimal("price"),
+            rs.getBoolean("verified"), rs.getString("type"), rs.getObject("area"), rs.getObject("latitude"),
+            rs.getObject("longitude"), rs.getString("photo_url"), rs.getString("owner_email"), rs.getString("owner_name"),
+            reviewCount, averageRating(reviewCount, rs.getLong("rating_sum"))
+        };
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) writer.write(',');
+            writer.write(csvField(values[i]));
+        }
+        writer.write("\n");
+    }
+
+    private static void writeNullableNumber(JsonGenerator json, String field, Number value) throws IOException {
+        if (value == null) {
+            json.writeNullField(field);
+        } else if (value instanceof Integer) {
+            json.writeNumberField(field, value.intValue());
+        } else {
+            json.writeNumberField(field, value.doubleValue());
+        }
+    }
+
+    private static double averageRating(long reviewCount, long ratingSum) {
+        return reviewCount == 0 ? 0.0 : (double) ratingSum / reviewCount;
+    }
+
+    private static String csvField(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        // Owner-entered text that a spreadsheet would evaluate as a formula is prefixed so it opens as plain text;
+        // numbers are left alone so negative coordinates stay numeric
+        if (value instanceof String && !text.isEmpty() && "=+-@\t\r".indexOf(text.charAt(0)) >= 0) {
+            text = "'" + text;
+        }
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+}
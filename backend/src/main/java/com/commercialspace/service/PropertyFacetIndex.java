@@ -0,0 +1,239 @@
+package com.commercialspace.service;
+
+import com.commercialspace.dto.PropertyFacetResponse;
+import com.commercialspace.dto.PropertyFilter;
+import com.commercialspace.event.PropertyChangedEvent;
+import com.commercialspace.model.Property;
+import com.commercialspace.model.PropertyType;
+import com.commercialspace.repository.PropertyRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Columnar snapshot of verified properties used to compute explore-page facet counts in one pass
+@Service
+public class PropertyFacetIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(PropertyFacetIndex.class);
+    private static final int MAX_CITY_FACETS = 20;
+
+    // Price bucket edges in minor units (paise); the last bucket is open-ended
+    private static final long[] PRICE_EDGES = { 0L, 100_000L, 250_000L, 500_000L, 1_000_000L, 2_500_000L };
+    private static final PropertyType[] TYPES = PropertyType.values();
+
+    private final PropertyRepository propertyRepository;
+    private final Map<Long, Row> rows = new ConcurrentHashMap<>();
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+    private volatile boolean dirty = true;
+
+    public PropertyFacetIndex(PropertyRepository propertyRepository) {
+        this.propertyRepository = propertyRepository;
+    }
+
+    private static final class Row {
+        private final long id;
+        private final long priceMinor;
+        private final int area;
+        private final String city;
+        private final PropertyType type;
+
+        Row(Property property) {
+            this.id = property.getId();
+            this.priceMinor = toMinorUnits(property.getPrice());
+            this.area = property.getArea() != null ? property.getArea() : -1;
+            this.city = property.getCity() != null && !property.getCity().isBlank() ? property.getCity().trim() : null;
+            this.type = property.getType();
+        }
+    }
+
+    // Immutable column arrays in id order; city and type are dictionary encoded, -1 means missing. PropertyRangeIndex
+    // derives its sorted orders from the id, price and area columns.
+    static final class Snapshot {
+        private static final Snapshot EMPTY = new Snapshot(new ArrayList<>());
+
+        final long[] ids;
+        final long[] priceMinor;
+        final int[] area;
+        private final int[] cityCode;
+        private final int[] typeCode;
+        private final String[] cityNames;
+        private final Map<String, Integer> cityCodes = new HashMap<>();
+        private final Map<Long, Integer> positions = new HashMap<>();
+
+        Snapshot(List<Row> source) {
+            source.sort((a, b) -> Long.compare(a.id, b.id));
+            int n = source.size();
+            ids = new long[n];
+            priceMinor = new long[n];
+            area = new int[n];
+            cityCode = new int[n];
+            typeCode = new int[n];
+            List<String> names = new ArrayList<>();
+            for (int i = 0; i < n; i++) {
+                Row row = source.get(i);
+                ids[i] = row.id;
+                priceMinor[i] = row.priceMinor;
+                area[i] = row.area;
+                typeCode[i] = row.type != null ? row.type.ordinal() : -1;
+                if (row.city == null) {
+                    cityCode[i] = -1;
+                } else {
+                    // The first spelling seen for a city is the one displayed
+                    cityCode[i] = cityCodes.computeIfAbsent(row.city.toLowerCase(Locale.ROOT), k -> {
+                        names.add(row.city);
+                        return names.size() - 1;
+                    });
+                }
+                positions.put(row.id, i);
+            }
+            cityNames = names.toArray(new String[0]);
+        }
+    }
+
+    public static class FacetResult {
+        private final List<Long> hitIds;
+        private final int total;
+        private final Map<String, Long> types;
+        private final Map<String, Long> cities;
+        private final List<PropertyFacetResponse.PriceRange> priceRanges;
+
+        FacetResult(List<Long> hitIds, int total, Map<String, Long> types, Map<String, Long> cities, List<PropertyFacetResponse.PriceRange> priceRanges) {
+            this.hitIds = hitIds;
+            this.total = total;
+            this.types = types;
+            this.cities = cities;
+            this.priceRanges = priceRanges;
+        }
+
+        public List<Long> getHitIds() { return hitIds; }
+        public int getTotal() { return total; }
+        public Map<String, Long> getTypes() { return types; }
+        public Map<String, Long> getCities() { return cities; }
+        public List<PropertyFacetResponse.PriceRange> getPriceRanges() { return priceRanges; }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        rows.clear();
+        propertyRepository.findByVerifiedTrue().forEach(p -> rows.put(p.getId(), new Row(p)));
+        dirty = true;
+        logger.info("Facet index loaded with {} verified properties", rows.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(0)
+    public void onPropertyChanged(PropertyChangedEvent event) {
+        if (event.getChange() == PropertyChangedEvent.Change.REVIEW_ADDED
+                || event.getChange() == PropertyChangedEvent.Change.OWNER_UPDATED) {
+            return;
+        }
+        Property property = event.getProperty();
+        if (property.isVerified()) {
+            rows.put(property.getId(), new Row(property));
+        } else {
+            rows.remove(property.getId());
+        }
+        dirty = true;
+    }
+
+    // Counts facets over properties passing the filter. With rankedIds only those ids are considered and
+    // hits keep their order; otherwise every verified property is scanned in id order.
+    public FacetResult facets(PropertyFilter filter, List<Long> rankedIds, int hitLimit) {
+        Snapshot s = currentSnapshot();
+        int typeFilter = filter.getType() != null ? filter.getType().ordinal() : -1;
+        int cityFilter = -2;
+        if (filter.getCity() != null) {
+            cityFilter = s.cityCodes.getOrDefault(filter.getCity().toLowerCase(Locale.ROOT), -3);
+        }
+        long minPrice = filter.getMinPrice() != null ? toMinorUnits(filter.getMinPrice()) : Long.MIN_VALUE;
+        long maxPrice = filter.getMaxPrice() != null ? toMinorUnits(filter.getMaxPrice()) : Long.MAX_VALUE;
+        int minArea = filter.getMinArea() != null ? filter.getMinArea() : Integer.MIN_VALUE;
+        int maxArea = filter.getMaxArea() != null ? filter.getMaxArea() : Integer.MAX_VALUE;
+        boolean areaFiltered = filter.getMinArea() != null || filter.getMaxArea() != null;
+
+        long[] typeCounts = new long[TYPES.length];
+        long[] cityCounts = new long[s.cityNames.length];
+        long[] priceCounts = new long[PRICE_EDGES.length];
+        List<Long> hits = new ArrayList<>(Math.max(0, Math.min(hitLimit, 64)));
+        int total = 0;
+
+        int candidates = rankedIds != null ? rankedIds.size() : s.ids.length;
+        for (int c = 0; c < candidates; c++) {
+            int i;
+            if (rankedIds != null) {
+                Integer position = s.positions.get(rankedIds.get(c));
+                if (position == null) continue;
+                i = position;
+            } else {
+                i = c;
+            }
+            if (typeFilter >= 0 && s.typeCode[i] != typeFilter) continue;
+            if (cityFilter != -2 && s.cityCode[i] != cityFilter) continue;
+            if (s.priceMinor[i] < minPrice || s.priceMinor[i] > maxPrice) continue;
+            if (areaFiltered && (s.area[i] < 0 || s.area[i] < minArea || s.area[i] > maxArea)) continue;
+
+            total++;
+            if (hits.size() < hitLimit) hits.add(s.ids[i]);
+            if (s.typeCode[i] >= 0) typeCounts[s.typeCode[i]]++;
+            if (s.cityCode[i] >= 0) cityCounts[s.cityCode[i]]++;
+            priceCounts[priceBucket(s.priceMinor[i])]++;
+        }
+
+        Map<String, Long> types = new LinkedHashMap<>();
+        for (int t = 0; t < TYPES.length; t++) {
+            types.put(TYPES[t].name(), typeCounts[t]);
+        }
+        Integer[] cityOrder = new Integer[cityCounts.length];
+        for (int c = 0; c < cityOrder.length; c++) cityOrder[c] = c;
+        Arrays.sort(cityOrder, (a, b) -> Long.compare(cityCounts[b], cityCounts[a]));
+        Map<String, Long> cities = new LinkedHashMap<>();
+        for (int c = 0; c < cityOrder.length && cities.size() < MAX_CITY_FACETS; c++) {
+            if (cityCounts[cityOrder[c]] > 0) cities.put(s.cityNames[cityOrder[c]], cityCounts[cityOrder[c]]);
+        }
+        List<PropertyFacetResponse.PriceRange> priceRanges = new ArrayList<>();
+        for (int b = 0; b < PRICE_EDGES.length; b++) {
+            Double max = b + 1 < PRICE_EDGES.length ? PRICE_EDGES[b + 1] / 100.0 : null;
+            priceRanges.add(new PropertyFacetResponse.PriceRange(PRICE_EDGES[b] / 100.0, max, priceCounts[b]));
+        }
+        return new FacetResult(hits, total, types, cities, priceRanges);
+    }
+
+    // A change replaces the snapshot rather than mutating it, so a new instance means the catalog changed
+    Snapshot currentSnapshot() {
+        if (dirty) {
+            synchronized (this) {
+                if (dirty) {
+                    // Clear the flag first so a change that lands mid-rebuild triggers another rebuild
+                    dirty = false;
+                    snapshot = new Snapshot(new ArrayList<>(rows.values()));
+                }
+            }
+        }
+        return snapshot;
+    }
+
+    private static int priceBucket(long priceMinor) {
+        int bucket = Arrays.binarySearch(PRICE_EDGES, priceMinor);
+        if (bucket < 0) bucket = -bucket - 2;
+        return Math.max(0, bucket);
+    }
+
+    static long toMinorUnits(BigDecimal price) {
+        return price == null ? 0L : price.movePointRight(2).setScale(0, RoundingMode.HALF_UP).longValue();
+    }
+}
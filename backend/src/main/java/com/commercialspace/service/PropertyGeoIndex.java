@@ -0,0 +1,217 @@
+package com.commercialspace.service;
+
+import com.commercialspace.event.PropertyChangedEvent;
+import com.commercialspace.model.Property;
+import com.commercialspace.repository.PropertyRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// Fixed-size lat/lng grid over verified properties for viewport and radius lookups
+@Service
+public class PropertyGeoIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(PropertyGeoIndex.class);
+    private static final double CELL_DEGREES = 0.05; // roughly 5.5 km of latitude per cell
+    private static final double EARTH_RADIUS_KM = 6371.0088;
+    private static final double KM_PER_DEGREE_LAT = 111.32;
+
+    private final PropertyRepository propertyRepository;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, List<GeoPoint>> cells = new HashMap<>();
+    private final Map<Long, GeoPoint> points = new HashMap<>();
+
+    public PropertyGeoIndex(PropertyRepository propertyRepository) {
+        this.propertyRepository = propertyRepository;
+    }
+
+    private static final class GeoPoint {
+        private final long propertyId;
+        private final double latitude;
+        private final double longitude;
+
+        GeoPoint(long propertyId, double latitude, double longitude) {
+            this.propertyId = propertyId;
+            this.latitude = latitude;
+            this.longitude = longitude;
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        List<Property> verified = propertyRepository.findByVerifiedTrue();
+        lock.writeLock().lock();
+        try {
+            cells.clear();
+            points.clear();
+            verified.forEach(this::add);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        logger.info("Geo index built with {} located properties", points.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(0)
+    public void onPropertyChanged(PropertyChangedEvent event) {
+        if (event.getChange() == PropertyChangedEvent.Change.REVIEW_ADDED
+                || event.getChange() == PropertyChangedEvent.Change.OWNER_UPDATED) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            remove(event.getPropertyId());
+            add(event.getProperty());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Property ids inside the box; a box with minLng > maxLng wraps across the antimeridian
+    public List<Long> withinBounds(double minLat, double minLng, double maxLat, double maxLng, int limit) {
+        List<Long> result = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            for (GeoPoint point : candidates(minLat, minLng, maxLat, maxLng)) {
+                if (contains(point, minLat, minLng, maxLat, maxLng)) {
+                    result.add(point.propertyId);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        result.sort(Comparator.naturalOrder());
+        return result.size() > limit ? result.subList(0, limit) : result;
+    }
+
+    // Property ids within radiusKm of the point, nearest first
+    public List<Long> nearby(double latitude, double longitude, double radiusKm, int limit) {
+        double latDelta = radiusKm / KM_PER_DEGREE_LAT;
+        double minLat = Math.max(-90, latitude - latDelta);
+        double maxLat = Math.min(90, latitude + latDelta);
+        double cosLat = Math.cos(Math.toRadians(Math.max(Math.abs(minLat), Math.abs(maxLat))));
+        double lngDelta = cosLat < 1e-6 ? 180 : radiusKm / (KM_PER_DEGREE_LAT * cosLat);
+        double minLng = lngDelta >= 180 ? -180 : wrapLongitude(longitude - lngDelta);
+        double maxLng = lngDelta >= 180 ? 180 : wrapLongitude(longitude + lngDelta);
+
+        List<double[]> hits = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            for (GeoPoint point : candidates(minLat, minLng, maxLat, maxLng)) {
+                double distance = distanceKm(latitude, longitude, point.latitude, point.longitude);
+                if (distance <= radiusKm) {
+                    hits.add(new double[] { distance, point.propertyId });
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        hits.sort(Comparator.comparingDouble(h -> h[0]));
+        List<Long> result = new ArrayList<>(Math.min(limit, hits.size()));
+        for (int i = 0; i < hits.size() && i < limit; i++) {
+            result.add((long) hits.get(i)[1]);
+        }
+        return result;
+    }
+
+    public static double distanceKm(double lat1, double lng1, double lat2, double lng2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLng = Math.toRadians(lng2 - lng1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+            + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) * Math.sin(dLng / 2) * Math.sin(dLng / 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+
+    private List<GeoPoint> candidates(double minLat, double minLng, double maxLat, double maxLng) {
+        int minRow = row(minLat);
+        int maxRow = row(maxLat);
+        List<int[]> columnRanges = new ArrayList<>();
+        if (minLng <= maxLng) {
+            columnRanges.add(new int[] { column(minLng), column(maxLng) });
+        } else {
+            columnRanges.add(new int[] { column(minLng), column(180) });
+            columnRanges.add(new int[] { column(-180), column(maxLng) });
+        }
+        long cellCount = 0;
+        for (int[] range : columnRanges) {
+            cellCount += (long) (maxRow - minRow + 1) * (range[1] - range[0] + 1);
+        }
+        // Large viewports touch more cells than there are points; scanning the points is cheaper then
+        if (cellCount > points.size()) {
+            return new ArrayList<>(points.values());
+        }
+        List<GeoPoint> result = new ArrayList<>();
+        for (int[] range : columnRanges) {
+            for (int r = minRow; r <= maxRow; r++) {
+                for (int c = range[0]; c <= range[1]; c++) {
+                    List<GeoPoint> cell = cells.get(cellKey(r, c));
+                    if (cell != null) {
+                        result.addAll(cell);
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    private static boolean contains(GeoPoint point, double minLat, double minLng, double maxLat, double maxLng) {
+        if (point.latitude < minLat || point.latitude > maxLat) {
+            return false;
+        }
+        return minLng <= maxLng
+            ? point.longitude >= minLng && point.longitude <= maxLng
+            : point.longitude >= minLng || point.longitude <= maxLng;
+    }
+
+    private void add(Property property) {
+        if (!property.isVerified() || property.getLatitude() == null || property.getLongitude() == null) {
+            return;
+        }
+        GeoPoint point = new GeoPoint(property.getId(), property.getLatitude(), property.getLongitude());
+        points.put(point.propertyId, point);
+        cells.computeIfAbsent(cellKey(row(point.latitude), column(point.longitude)), k -> new ArrayList<>()).add(point);
+    }
+
+    private void remove(Long propertyId) {
+        GeoPoint point = points.remove(propertyId);
+        if (point == null) {
+            return;
+        }
+        long key = cellKey(row(point.latitude), column(point.longitude));
+        List<GeoPoint> cell = cells.get(key);
+        cell.removeIf(p -> p.propertyId == point.propertyId);
+        if (cell.isEmpty()) {
+            cells.remove(key);
+        }
+    }
+
+    private static double wrapLongitude(double longitude) {
+        if (longitude < -180) return longitude + 360;
+        if (longitude > 180) return longitude - 360;
+        return longitude;
+    }
+
+    private static int row(double latitude) {
+        return (int) Math.floor((latitude + 90) / CELL_DEGREES);
+    }
+
+    private static int column(double longitude) {
+        return (int) Math.floor((longitude + 180) / CELL_DEGREES);
+    }
+
+    private static long cellKey(int row, int column) {
+        return ((long) row << 32) | (column & 0xffffffffL);
+    }
+}
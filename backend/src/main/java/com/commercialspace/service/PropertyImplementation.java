@@ -1,66 +1,175 @@
 package com.commercialspace.service;
 
+import com.commercialspace.dto.CursorPage;
+import com.commercialspace.dto.PropertyFacetResponse;
+import com.commercialspace.dto.PropertyFilter;
 import com.commercialspace.dto.PropertyRequest;
 import com.commercialspace.dto.PropertyResponse;
+import com.commercialspace.event.PropertyChangedEvent;
 import com.commercialspace.model.Property;
+import com.commercialspace.model.PropertyRatingStats;
 import com.commercialspace.model.User;
+import com.commercialspace.repository.PropertyRatingStatsRepository;
 import com.commercialspace.repository.PropertyRepository;
 import com.commercialspace.repository.UserRepository;
-import com.commercialspace.repository.ReviewRepository;
+import com.commercialspace.util.PageCursor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
 public class PropertyImplementation implements PropertyService {
 
     private static final Logger logger = LoggerFactory.getLogger(PropertyImplementation.class);
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_SEARCH_RESULTS = 1000;
+    private static final int MAX_GEO_RESULTS = 1000;
+    private static final double MAX_RADIUS_KM = 500;
+    private static final int MAX_RANGE_RESULTS = 1000;
     private final PropertyRepository propertyRepository;
     private final UserRepository userRepository;
-    private final ReviewRepository reviewRepository;
+    private final PropertyRatingStatsRepository ratingStatsRepository;
+    private final PropertySearchIndex searchIndex;
+    private final PropertyGeoIndex geoIndex;
+    private final PropertyFacetIndex facetIndex;
+    private final PropertyRangeIndex rangeIndex;
+    private final PropertyResponseCache responseCache;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public PropertyImplementation(PropertyRepository propertyRepository, UserRepository userRepository, ReviewRepository reviewRepository) {
+    public PropertyImplementation(PropertyRepository propertyRepository, UserRepository userRepository, PropertyRatingStatsRepository ratingStatsRepository,
+                                  PropertySearchIndex searchIndex, PropertyGeoIndex geoIndex, PropertyFacetIndex facetIndex, PropertyRangeIndex rangeIndex,
+                                  PropertyResponseCache responseCache, ApplicationEventPublisher eventPublisher) {
         this.propertyRepository = propertyRepository;
         this.userRepository = userRepository;
-        this.reviewRepository = reviewRepository;
+        this.ratingStatsRepository = ratingStatsRepository;
+        this.searchIndex = searchIndex;
+        this.geoIndex = geoIndex;
+        this.facetIndex = facetIndex;
+        this.rangeIndex = rangeIndex;
+        this.responseCache = responseCache;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<PropertyResponse> getAllVerifiedProperties() {
         logger.info("Fetching all verified properties from repository");
-        List<PropertyResponse> result = propertyRepository.findAll().stream()
-                .filter(Property::isVerified)
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
+        List<PropertyResponse> result = propertyRepository.findVerifiedResponses();
         logger.info("{} verified properties fetched", result.size());
         return result;
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<PropertyResponse> getAllVerifiedProperties(String search) {
         logger.info("Searching verified properties with query: {}", search);
         if (search == null || search.trim().isEmpty()) {
             return getAllVerifiedProperties();
         }
-        List<PropertyResponse> result = propertyRepository
-            .findByVerifiedTrueAndTitleContainingIgnoreCaseOrVerifiedTrueAndAddressContainingIgnoreCaseOrVerifiedTrueAndStateContainingIgnoreCaseOrVerifiedTrueAndCityContainingIgnoreCaseOrVerifiedTrueAndCountryContainingIgnoreCase(
-                search, search, search, search, search)
-            .stream()
-            .map(this::mapToResponse)
-            .collect(Collectors.toList());
+        List<Long> rankedIds = searchIndex.search(search, MAX_SEARCH_RESULTS);
+        if (rankedIds.isEmpty()) {
+            logger.info("No verified properties found for search: {}", search);
+            return List.of();
+        }
+        List<PropertyResponse> result = loadVerifiedInOrder(rankedIds);
         logger.info("{} verified properties found for search: {}", result.size(), search);
         return result;
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public List<PropertyResponse> getVerifiedPropertiesInBounds(double minLat, double minLng, double maxLat, double maxLng, int limit) {
+        validateCoordinates(minLat, minLng);
+        validateCoordinates(maxLat, maxLng);
+        if (minLat > maxLat) {
+            throw new IllegalArgumentException("minLat must not be greater than maxLat");
+        }
+        List<Long> ids = geoIndex.withinBounds(minLat, minLng, maxLat, maxLng, clampGeoLimit(limit));
+        logger.info("{} verified properties inside bounds [{}, {}] - [{}, {}]", ids.size(), minLat, minLng, maxLat, maxLng);
+        return loadVerifiedInOrder(ids);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<PropertyResponse> getVerifiedPropertiesNearby(double latitude, double longitude, double radiusKm, int limit) {
+        validateCoordinates(latitude, longitude);
+        if (radiusKm <= 0 || radiusKm > MAX_RADIUS_KM) {
+            throw new IllegalArgumentException("radiusKm must be between 0 and " + MAX_RADIUS_KM);
+        }
+        List<Long> ids = geoIndex.nearby(latitude, longitude, radiusKm, clampGeoLimit(limit));
+        logger.info("{} verified properties within {} km of [{}, {}]", ids.size(), radiusKm, latitude, longitude);
+        return loadVerifiedInOrder(ids);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<PropertyResponse> getVerifiedPropertiesInRange(BigDecimal minPrice, BigDecimal maxPrice, Integer minArea, Integer maxArea, int limit) {
+        if (minPrice != null && maxPrice != null && minPrice.compareTo(maxPrice) > 0) {
+            throw new IllegalArgumentException("minPrice must not be greater than maxPrice");
+        }
+        if (minArea != null && maxArea != null && minArea > maxArea) {
+            throw new IllegalArgumentException("minArea must not be greater than maxArea");
+        }
+        int cappedLimit = limit <= 0 ? MAX_RANGE_RESULTS : Math.min(limit, MAX_RANGE_RESULTS);
+        List<Long> ids = rangeIndex.inRange(minPrice, maxPrice, minArea, maxArea, cappedLimit);
+        logger.info("{} verified properties in price [{}, {}] area [{}, {}]", ids.size(), minPrice, maxPrice, minArea, maxArea);
+        return loadVerifiedInOrder(ids);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<PropertyResponse> getVerifiedPropertiesPage(PropertyFilter filter, String cursor, int size) {
+        int limit = size <= 0 ? DEFAULT_PAGE_SIZE : Math.min(size, MAX_PAGE_SIZE);
+        long afterId = 0L;
+        if (cursor != null && !cursor.isBlank()) {
+            try {
+                afterId = Long.parseLong(PageCursor.decode(cursor, 1)[0]);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+        }
+        logger.info("Fetching verified property page after ID: {} (limit {})", afterId, limit);
+        // Fetch one extra row to know whether another page exists
+        List<PropertyResponse> rows = propertyRepository.findVerifiedResponsePage(afterId, filter.getType(), filter.getCity(),
+            filter.getMinPrice(), filter.getMaxPrice(), filter.getMinArea(), filter.getMaxArea(),
+            PageRequest.of(0, limit + 1));
+        boolean hasMore = rows.size() > limit;
+        if (hasMore) {
+            rows = rows.subList(0, limit);
+        }
+        String nextCursor = hasMore ? PageCursor.encode(rows.get(rows.size() - 1).getId()) : null;
+        return new CursorPage<>(rows, nextCursor);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PropertyFacetResponse getVerifiedPropertyFacets(String search, PropertyFilter filter, int size) {
+        int limit = size < 0 ? DEFAULT_PAGE_SIZE : Math.min(size, MAX_PAGE_SIZE);
+        List<Long> rankedIds = null;
+        if (search != null && !search.trim().isEmpty()) {
+            rankedIds = searchIndex.search(search, Integer.MAX_VALUE);
+        }
+        PropertyFacetIndex.FacetResult facets = facetIndex.facets(filter, rankedIds, limit);
+        logger.info("Facets computed over {} matching properties{}", facets.getTotal(), rankedIds != null ? " for search: " + search : "");
+        return new PropertyFacetResponse(loadVerifiedInOrder(facets.getHitIds()), facets.getTotal(),
+            facets.getTypes(), facets.getCities(), facets.getPriceRanges());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public List<PropertyResponse> getAllProperties() {
         logger.info("Fetching all properties (admin)");
-        List<PropertyResponse> result = propertyRepository.findAll().stream()
-            .map(this::mapToResponse)
-            .collect(Collectors.toList());
+        List<PropertyResponse> result = propertyRepository.findAllResponses();
         logger.info("{} total properties fetched (admin)", result.size());
         return result;
     }
@@ -68,12 +177,14 @@ public class PropertyImplementation implements PropertyService {
     @Override
     public PropertyResponse getPropertyById(Long id) {
         logger.info("Fetching property by ID: {}", id);
-        Property p = propertyRepository.findById(id).orElseThrow(() -> {
-            logger.warn("Property not found for ID: {}", id);
-            return new IllegalArgumentException("Property not found");
+        return responseCache.get(id, () -> {
+            Property p = propertyRepository.findById(id).orElseThrow(() -> {
+                logger.warn("Property not found for ID: {}", id);
+                return new IllegalArgumentException("Property not found");
+            });
+            logger.info("Property loaded for ID: {}", id);
+            return mapToResponse(p);
         });
-        logger.info("Property found for ID: {}", id);
-        return mapToResponse(p);
     }
 
     @Override
@@ -99,16 +210,16 @@ public class PropertyImplementation implements PropertyService {
         property.setCity(req.getCity());
 
         Property saved = propertyRepository.save(property);
+        eventPublisher.publishEvent(new PropertyChangedEvent(saved, PropertyChangedEvent.Change.CREATED));
         logger.info("Property created with ID: {} for owner: {}", saved.getId(), ownerEmail);
         return mapToResponse(saved);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<PropertyResponse> getPropertiesByOwner(String ownerEmail) {
         logger.info("Fetching properties for owner: {}", ownerEmail);
-        List<PropertyResponse> result = propertyRepository.findByOwnerEmail(ownerEmail).stream()
-            .map(this::mapToResponse)
-            .collect(Collectors.toList());
+        List<PropertyResponse> result = propertyRepository.findResponsesByOwnerEmail(ownerEmail);
         logger.info("{} properties fetched for owner: {}", result.size(), ownerEmail);
         return result;
     }
@@ -116,8 +227,10 @@ public class PropertyImplementation implements PropertyService {
     @Override
     public void setVerified(Long propertyId, boolean verified) {
         Property property = propertyRepository.findById(propertyId).orElseThrow();
+        boolean wasVerified = property.isVerified();
         property.setVerified(verified);
-        propertyRepository.save(property);
+        Property saved = propertyRepository.save(property);
+        eventPublisher.publishEvent(new PropertyChangedEvent(saved, PropertyChangedEvent.Change.VERIFICATION_CHANGED, wasVerified));
     }
 
     @Override
@@ -127,13 +240,42 @@ public class PropertyImplementation implements PropertyService {
             logger.warn("Property not found for verification ID: {}", propertyId);
             return new IllegalArgumentException("Property not found");
         });
+        boolean wasVerified = property.isVerified();
         property.setVerified(verified);
         Property saved = propertyRepository.save(property);
+        eventPublisher.publishEvent(new PropertyChangedEvent(saved, PropertyChangedEvent.Change.VERIFICATION_CHANGED, wasVerified));
         logger.info("Property {} verification status updated to: {}", propertyId, verified);
         return mapToResponse(saved);
     }
 
+    // Hydrates ids produced by an in-memory index, keeping the index's ordering
+    private List<PropertyResponse> loadVerifiedInOrder(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, PropertyResponse> byId = propertyRepository.findResponsesByIdIn(ids).stream()
+            .collect(Collectors.toMap(PropertyResponse::getId, Function.identity()));
+        return ids.stream()
+            .map(byId::get)
+            .filter(p -> p != null && p.isVerified())
+            .collect(Collectors.toList());
+    }
+
+    private static void validateCoordinates(double latitude, double longitude) {
+        if (latitude < -90 || latitude > 90 || longitude < -180 || longitude > 180) {
+            throw new IllegalArgumentException("Invalid coordinates: " + latitude + ", " + longitude);
+        }
+    }
+
+    private static int clampGeoLimit(int limit) {
+        return limit <= 0 ? MAX_GEO_RESULTS : Math.min(limit, MAX_GEO_RESULTS);
+    }
+
     private PropertyResponse mapToResponse(Property p) {
+        return mapToResponse(p, ratingStatsRepository.findById(p.getId()).orElse(null));
+    }
+
+    private PropertyResponse mapToResponse(Property p, PropertyRatingStats stats) {
         PropertyResponse res = new PropertyResponse();
         res.setId(p.getId());
         res.setTitle(p.getTitle());
@@ -151,20 +293,8 @@ public class PropertyImplementation implements PropertyService {
         res.setLongitude(p.getLongitude());
         res.setCity(p.getCity());
         // Set review stats
-        long reviewCount = reviewRepository.countByPropertyId(p.getId());
-        Double avg = null;
-        try {
-            avg = (Double) reviewRepository
-                .findByPropertyId(p.getId())
-                .stream()
-                .mapToInt(r -> r.getRating())
-                .average()
-                .orElse(0.0);
-        } catch (Exception e) {
-            avg = 0.0;
-        }
-        res.setReviewCount((int) reviewCount);
-        res.setAverageRating(avg);
+        res.setReviewCount(stats != null ? (int) stats.getReviewCount() : 0);
+        res.setAverageRating(stats != null ? stats.getAverageRating() : 0.0);
         res.setPhotoUrl(p.getPhotoUrl());
         return res;
     }
@@ -0,0 +1,140 @@
+package com.commercialspace.service;
+
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+// Sorted primitive arrays over verified properties so price and area ranges resolve to a binary search plus a slice.
+// The arrays are derived from the facet index's column snapshot and rebuilt the first time a new snapshot is read.
+@Service
+public class PropertyRangeIndex {
+
+    private final PropertyFacetIndex facetIndex;
+    private volatile Sorted sorted;
+
+    public PropertyRangeIndex(PropertyFacetIndex facetIndex) {
+        this.facetIndex = facetIndex;
+    }
+
+    // Positions into the snapshot's columns, ordered by price and by area. The columns are in id order and the sorts
+    // are stable, so ties stay in id order. Properties without an area are left out of the area order.
+    private static final class Sorted {
+        private final PropertyFacetIndex.Snapshot columns;
+        private final long[] prices;
+        private final int[] byPrice;
+        private final int[] areas;
+        private final int[] byArea;
+
+        Sorted(PropertyFacetIndex.Snapshot columns) {
+            this.columns = columns;
+            List<Integer> all = new ArrayList<>();
+            List<Integer> withArea = new ArrayList<>();
+            for (int i = 0; i < columns.ids.length; i++) {
+                all.add(i);
+                if (columns.area[i] >= 0) withArea.add(i);
+            }
+            all.sort(Comparator.comparingLong(i -> columns.priceMinor[i]));
+            withArea.sort(Comparator.comparingInt(i -> columns.area[i]));
+            byPrice = all.stream().mapToInt(Integer::intValue).toArray();
+            byArea = withArea.stream().mapToInt(Integer::intValue).toArray();
+            prices = Arrays.stream(byPrice).mapToLong(i -> columns.priceMinor[i]).toArray();
+            areas = Arrays.stream(byArea).map(i -> columns.area[i]).toArray();
+        }
+    }
+
+    // Returns ids of verified properties inside the inclusive bounds; null bounds are open. Results are ordered by
+    // price (then id), so the limit keeps the cheapest matches.
+    public List<Long> inRange(BigDecimal minPrice, BigDecimal maxPrice, Integer minArea, Integer maxArea, int limit) {
+        Sorted s = currentSorted();
+        boolean areaBounded = minArea != null || maxArea != null;
+
+        int priceFrom = minPrice != null ? lowerBound(s.prices, PropertyFacetIndex.toMinorUnits(minPrice)) : 0;
+        int priceTo = maxPrice != null ? upperBound(s.prices, PropertyFacetIndex.toMinorUnits(maxPrice)) : s.prices.length;
+        int areaFrom = minArea != null ? lowerBound(s.areas, minArea) : 0;
+        int areaTo = maxArea != null ? upperBound(s.areas, maxArea) : s.areas.length;
+        int priceSlice = Math.max(0, priceTo - priceFrom);
+        int areaSlice = Math.max(0, areaTo - areaFrom);
+
+        List<Long> result = new ArrayList<>();
+        if (!areaBounded || priceSlice <= areaSlice) {
+            // Walk the price slice in order and stop as soon as the limit is reached
+            for (int i = priceFrom; i < priceTo && result.size() < limit; i++) {
+                int position = s.byPrice[i];
+                if (areaBounded && !areaMatches(s.columns.area[position], minArea, maxArea)) continue;
+                result.add(s.columns.ids[position]);
+            }
+            return result;
+        }
+        // The area slice is narrower: filter it on price, then restore price order on the matches only
+        long minPriceMinor = minPrice != null ? PropertyFacetIndex.toMinorUnits(minPrice) : Long.MIN_VALUE;
+        long maxPriceMinor = maxPrice != null ? PropertyFacetIndex.toMinorUnits(maxPrice) : Long.MAX_VALUE;
+        List<Integer> matches = new ArrayList<>();
+        for (int i = areaFrom; i < areaTo; i++) {
+            long priceMinor = s.columns.priceMinor[s.byArea[i]];
+            if (priceMinor >= minPriceMinor && priceMinor <= maxPriceMinor) matches.add(s.byArea[i]);
+        }
+        matches.sort(Comparator.<Integer>comparingLong(i -> s.columns.priceMinor[i]).thenComparingInt(i -> i));
+        for (int i = 0; i < matches.size() && result.size() < limit; i++) {
+            result.add(s.columns.ids[matches.get(i)]);
+        }
+        return result;
+    }
+
+    // Two readers may both build the orders for a new snapshot; either copy is correct for it
+    private Sorted currentSorted() {
+        PropertyFacetIndex.Snapshot columns = facetIndex.currentSnapshot();
+        Sorted s = sorted;
+        if (s == null || s.columns != columns) {
+            s = new Sorted(columns);
+            sorted = s;
+        }
+        return s;
+    }
+
+    private static boolean areaMatches(int area, Integer minArea, Integer maxArea) {
+        if (area < 0) return false;
+        return (minArea == null || area >= minArea) && (maxArea == null || area <= maxArea);
+    }
+
+    // First index whose key is >= value
+    private static int lowerBound(long[] keys, long value) {
+        int lo = 0, hi = keys.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (keys[mid] < value) lo = mid + 1; else hi = mid;
+        }
+        return lo;
+    }
+
+    // First index whose key is > value
+    private static int upperBound(long[] keys, long value) {
+        int lo = 0, hi = keys.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (keys[mid] <= value) lo = mid + 1; else hi = mid;
+        }
+        return lo;
+    }
+
+    private static int lowerBound(int[] keys, int value) {
+        int lo = 0, hi = keys.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (keys[mid] < value) lo = mid + 1; else hi = mid;
+        }
+        return lo;
+    }
+
+    private static int upperBound(int[] keys, int value) {
+        int lo = 0, hi = keys.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (keys[mid] <= value) lo = mid + 1; else hi = mid;
+        }
+        return lo;
+    }
+}
@@ -0,0 +1,129 @@
+package com.commercialspace.service;
+
+import com.commercialspace.dto.PropertyResponse;
+import com.commercialspace.event.PropertyChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+// Size-bounded LRU cache with TTL for rendered property detail responses
+@Service
+public class PropertyResponseCache {
+
+    private final int maxSize;
+    private final long ttlNanos;
+    private final LinkedHashMap<Long, Entry> entries;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private final AtomicLong expirations = new AtomicLong();
+    private final AtomicLong invalidations = new AtomicLong();
+
+    // Bumped on every invalidation so a load that raced with a write is not cached
+    private final AtomicLong generation = new AtomicLong();
+
+    private static final class Entry {
+        private final PropertyResponse response;
+        private final long expiresAt;
+
+        Entry(PropertyResponse response, long expiresAt) {
+            this.response = response;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    public PropertyResponseCache(@Value("${property.cache.max-size:1000}") int maxSize,
+                                 @Value("${property.cache.ttl-seconds:300}") long ttlSeconds) {
+        this.maxSize = maxSize;
+        this.ttlNanos = ttlSeconds * 1_000_000_000L;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+                if (size() > PropertyResponseCache.this.maxSize) {
+                    evictions.incrementAndGet();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    public PropertyResponse get(Long propertyId, Supplier<PropertyResponse> loader) {
+        long now = System.nanoTime();
+        synchronized (entries) {
+            Entry entry = entries.get(propertyId);
+            if (entry != null) {
+                if (now - entry.expiresAt < 0) {
+                    hits.incrementAndGet();
+                    return entry.response;
+                }
+                entries.remove(propertyId);
+                expirations.incrementAndGet();
+            }
+        }
+        misses.incrementAndGet();
+        long loadGeneration = generation.get();
+        PropertyResponse response = loader.get();
+        synchronized (entries) {
+            if (generation.get() == loadGeneration) {
+                entries.put(propertyId, new Entry(response, System.nanoTime() + ttlNanos));
+            }
+        }
+        return response;
+    }
+
+    public void invalidate(Long propertyId) {
+        synchronized (entries) {
+            generation.incrementAndGet();
+            entries.remove(propertyId);
+        }
+        invalidations.incrementAndGet();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(0)
+    public void onPropertyChanged(PropertyChangedEvent event) {
+        invalidate(event.getPropertyId());
+    }
+
+    public Map<String, Object> getStats() {
+        int size;
+        long expired = 0;
+        long now = System.nanoTime();
+        synchronized (entries) {
+            // Purge lazily-expired entries so size reflects live entries only
+            Iterator<Entry> it = entries.values().iterator();
+            while (it.hasNext()) {
+                if (now - it.next().expiresAt >= 0) {
+                    it.remove();
+                    expired++;
+                }
+            }
+            size = entries.size();
+        }
+        long expiredTotal = expirations.addAndGet(expired);
+        long hitCount = hits.get();
+        long missCount = misses.get();
+        long requests = hitCount + missCount;
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("size", size);
+        stats.put("maxSize", maxSize);
+        stats.put("ttlSeconds", ttlNanos / 1_000_000_000L);
+        stats.put("hits", hitCount);
+        stats.put("misses", missCount);
+        stats.put("hitRate", requests == 0 ? 0.0 : (double) hitCount / requests);
+        stats.put("evictions", evictions.get());
+        stats.put("expirations", expiredTotal);
+        stats.put("invalidations", invalidations.get());
+        return stats;
+    }
+}
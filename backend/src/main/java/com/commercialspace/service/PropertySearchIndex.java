@@ -0,0 +1,216 @@
+package com.commercialspace.service;
+
+import com.commercialspace.event.PropertyChangedEvent;
+import com.commercialspace.model.Property;
+import com.commercialspace.repository.PropertyRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// In-memory inverted index over verified properties with BM25 ranking
+@Service
+public class PropertySearchIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(PropertySearchIndex.class);
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    // Field weights are applied to term frequencies, so a title hit outranks a description hit
+    private static final int TITLE_WEIGHT = 3;
+    private static final int LOCATION_WEIGHT = 2;
+    private static final int TEXT_WEIGHT = 1;
+
+    private final PropertyRepository propertyRepository;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // term -> (property id -> weighted term frequency); sorted so the last query term can be prefix-matched
+    private final TreeMap<String, Map<Long, Integer>> postings = new TreeMap<>();
+    private final Map<Long, Map<String, Integer>> documents = new HashMap<>();
+    private final Map<Long, Integer> documentLengths = new HashMap<>();
+    private long totalLength;
+
+    public PropertySearchIndex(PropertyRepository propertyRepository) {
+        this.propertyRepository = propertyRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        List<Property> verified = propertyRepository.findByVerifiedTrue();
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            documents.clear();
+            documentLengths.clear();
+            totalLength = 0;
+            verified.forEach(this::addDocument);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        logger.info("Search index built with {} verified properties", verified.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(0)
+    public void onPropertyChanged(PropertyChangedEvent event) {
+        if (event.getChange() == PropertyChangedEvent.Change.REVIEW_ADDED) {
+            return;
+        }
+        Property property = event.getProperty();
+        lock.writeLock().lock();
+        try {
+            removeDocument(property.getId());
+            if (property.isVerified()) {
+                addDocument(property);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Returns verified property ids matching every query term, best match first
+    public List<Long> search(String query, int limit) {
+        List<String> terms = tokenize(query);
+        if (terms.isEmpty()) {
+            return Collections.emptyList();
+        }
+        lock.readLock().lock();
+        try {
+            int docCount = documents.size();
+            if (docCount == 0) {
+                return Collections.emptyList();
+            }
+            double avgLength = (double) totalLength / docCount;
+            Map<Long, Double> scores = null;
+            for (int i = 0; i < terms.size(); i++) {
+                String term = terms.get(i);
+                // The last term is treated as a prefix to support type-ahead queries such as "pun"
+                Map<String, Map<Long, Integer>> matches = i == terms.size() - 1
+                    ? prefixMatches(term)
+                    : exactMatch(term);
+                Map<Long, Double> termScores = new HashMap<>();
+                for (Map<Long, Integer> docs : matches.values()) {
+                    double idf = Math.log(1 + (docCount - docs.size() + 0.5) / (docs.size() + 0.5));
+                    for (Map.Entry<Long, Integer> posting : docs.entrySet()) {
+                        if (scores != null && !scores.containsKey(posting.getKey())) {
+                            continue;
+                        }
+                        double tf = posting.getValue();
+                        double norm = K1 * (1 - B + B * documentLengths.get(posting.getKey()) / avgLength);
+                        double score = idf * tf * (K1 + 1) / (tf + norm);
+                        termScores.merge(posting.getKey(), score, Math::max);
+                    }
+                }
+                if (scores == null) {
+                    scores = termScores;
+                } else {
+                    Map<Long, Double> previous = scores;
+                    termScores.replaceAll((id, score) -> score + previous.get(id));
+                    scores = termScores;
+                }
+                if (scores.isEmpty()) {
+                    return Collections.emptyList();
+                }
+            }
+            List<Map.Entry<Long, Double>> ranked = new ArrayList<>(scores.entrySet());
+            ranked.sort(Map.Entry.<Long, Double>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()));
+            List<Long> result = new ArrayList<>(Math.min(limit, ranked.size()));
+            for (int i = 0; i < ranked.size() && i < limit; i++) {
+                result.add(ranked.get(i).getKey());
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Map<String, Map<Long, Integer>> exactMatch(String term) {
+        Map<Long, Integer> docs = postings.get(term);
+        return docs == null ? Collections.emptyMap() : Collections.singletonMap(term, docs);
+    }
+
+    private NavigableMap<String, Map<Long, Integer>> prefixMatches(String prefix) {
+        return postings.subMap(prefix, true, prefix + Character.MAX_VALUE, false);
+    }
+
+    private void addDocument(Property property) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        addField(frequencies, property.getTitle(), TITLE_WEIGHT);
+        addField(frequencies, property.getCity(), LOCATION_WEIGHT);
+        addField(frequencies, property.getState(), LOCATION_WEIGHT);
+        addField(frequencies, property.getCountry(), LOCATION_WEIGHT);
+        addField(frequencies, property.getAddress(), TEXT_WEIGHT);
+        addField(frequencies, property.getDescription(), TEXT_WEIGHT);
+        int length = 0;
+        for (Map.Entry<String, Integer> entry : frequencies.entrySet()) {
+            postings.computeIfAbsent(entry.getKey(), k -> new HashMap<>()).put(property.getId(), entry.getValue());
+            length += entry.getValue();
+        }
+        documents.put(property.getId(), frequencies);
+        documentLengths.put(property.getId(), length);
+        totalLength += length;
+    }
+
+    private void removeDocument(Long propertyId) {
+        Map<String, Integer> frequencies = documents.remove(propertyId);
+        if (frequencies == null) {
+            return;
+        }
+        for (String term : frequencies.keySet()) {
+            Map<Long, Integer> docs = postings.get(term);
+            docs.remove(propertyId);
+            if (docs.isEmpty()) {
+                postings.remove(term);
+            }
+        }
+        totalLength -= documentLengths.remove(propertyId);
+    }
+
+    private static void addField(Map<String, Integer> frequencies, String text, int weight) {
+        for (String term : tokenize(text)) {
+            frequencies.merge(term, weight, Integer::sum);
+        }
+    }
+
+    static List<String> tokenize(String text) {
+        List<String> terms = new ArrayList<>();
+        if (text == null) {
+            return terms;
+        }
+        String normalized = text.toLowerCase(Locale.ROOT);
+        int start = -1;
+        for (int i = 0; i <= normalized.length(); i++) {
+            boolean wordChar = i < normalized.length() && Character.isLetterOrDigit(normalized.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                terms.add(normalized.substring(start, i));
+                start = -1;
+            }
+        }
+        return terms;
+    }
+}
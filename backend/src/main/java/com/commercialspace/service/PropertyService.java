@@ -1,8 +1,12 @@
 package com.commercialspace.service;
 
+import com.commercialspace.dto.CursorPage;
+import com.commercialspace.dto.PropertyFacetResponse;
+import com.commercialspace.dto.PropertyFilter;
 import com.commercialspace.dto.PropertyRequest;
 import com.commercialspace.dto.PropertyResponse;
 
+import java.math.BigDecimal;
 import java.util.List;
 
 public interface PropertyService {
@@ -10,6 +14,11 @@ public interface PropertyService {
     PropertyResponse getPropertyById(Long id);
     List<PropertyResponse> getAllVerifiedProperties();
     List<PropertyResponse> getAllVerifiedProperties(String search);
+    CursorPage<PropertyResponse> getVerifiedPropertiesPage(PropertyFilter filter, String cursor, int size);
+    PropertyFacetResponse getVerifiedPropertyFacets(String search, PropertyFilter filter, int size);
+    List<PropertyResponse> getVerifiedPropertiesInRange(BigDecimal minPrice, BigDecimal maxPrice, Integer minArea, Integer maxArea, int limit);
+    List<PropertyResponse> getVerifiedPropertiesInBounds(double minLat, double minLng, double maxLat, double maxLng, int limit);
+    List<PropertyResponse> getVerifiedPropertiesNearby(double latitude, double longitude, double radiusKm, int limit);
     List<PropertyResponse> getPropertiesByOwner(String ownerEmail);
     List<PropertyResponse> getAllProperties();
     void setVerified(Long propertyId, boolean verified);
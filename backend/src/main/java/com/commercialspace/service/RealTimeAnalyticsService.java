@@ -1,22 +1,44 @@
 package com.commercialspace.service;
 
+import com.commercialspace.event.BookingChangedEvent;
+import com.commercialspace.event.PropertyChangedEvent;
+import com.commercialspace.event.UserRegisteredEvent;
 import com.commercialspace.model.Booking;
 import com.commercialspace.model.Property;
 import com.commercialspace.model.User;
 import com.commercialspace.repository.BookingRepository;
 import com.commercialspace.repository.PropertyRepository;
+import com.commercialspace.repository.ReviewRepository;
 import com.commercialspace.repository.UserRepository;
+import com.commercialspace.util.SlidingWindowCounter;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
 
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 @Service
 public class RealTimeAnalyticsService {
 
+    // One bucket per minute over the last 24 hours
+    private static final int MINUTES_PER_DAY = 1440;
+    private static final int MINUTES_PER_HOUR = 60;
+
+    // Recent activity, fed from the write paths' change events so snapshots never touch the database
+    private final SlidingWindowCounter bookingsCreated = new SlidingWindowCounter(MINUTES_PER_DAY, 1, TimeUnit.MINUTES);
+    private final SlidingWindowCounter propertiesListed = new SlidingWindowCounter(MINUTES_PER_DAY, 1, TimeUnit.MINUTES);
+    private final SlidingWindowCounter usersRegistered = new SlidingWindowCounter(MINUTES_PER_DAY, 1, TimeUnit.MINUTES);
+    private final SlidingWindowCounter reviewsAdded = new SlidingWindowCounter(MINUTES_PER_DAY, 1, TimeUnit.MINUTES);
+
     @Autowired
     private SimpMessagingTemplate messagingTemplate;
 
@@ -29,6 +51,54 @@ public class RealTimeAnalyticsService {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private AnalyticsAggregateStore aggregates;
+
+    // After a restart the counters are refilled from the last day's creation times, read once on the indexed columns
+    @EventListener(ApplicationReadyEvent.class)
+    public void seedActivityCounters() {
+        LocalDateTime since = LocalDateTime.now().minusMinutes(MINUTES_PER_DAY);
+        seed(bookingsCreated, bookingRepository.findCreatedAtSince(since));
+        seed(propertiesListed, propertyRepository.findCreatedAtSince(since));
+        seed(usersRegistered, userRepository.findCreatedAtSince(since));
+        seed(reviewsAdded, reviewRepository.findCreatedAtSince(since));
+    }
+
+    private static void seed(SlidingWindowCounter counter, List<LocalDateTime> createdAt) {
+        ZoneId zone = ZoneId.systemDefault();
+        for (LocalDateTime time : createdAt) {
+            counter.add(time.atZone(zone).toInstant().toEpochMilli(), 1);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(0)
+    public void onBookingChanged(BookingChangedEvent event) {
+        if (event.getBefore() == null && event.getAfter() != null) {
+            bookingsCreated.increment();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(0)
+    public void onPropertyChanged(PropertyChangedEvent event) {
+        switch (event.getChange()) {
+            case CREATED -> propertiesListed.increment();
+            case REVIEW_ADDED -> reviewsAdded.increment();
+            default -> {
+            }
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(0)
+    public void onUserRegistered(UserRegisteredEvent event) {
+        usersRegistered.increment();
+    }
+
     public void broadcastAnalyticsUpdate() {
         Map<String, Object> analytics = getRealTimeAnalytics();
         messagingTemplate.convertAndSend("/topic/analytics", analytics);
@@ -61,25 +131,26 @@ public class RealTimeAnalyticsService {
     private Map<String, Object> getRealTimeAnalytics() {
         Map<String, Object> analytics = new HashMap<>();
         
-        // Real-time counts
-        long totalProperties = propertyRepository.count();
-        long totalBookings = bookingRepository.count();
-        long totalUsers = userRepository.count();
-        
-        // Recent activity (last 24 hours)
-        LocalDateTime yesterday = LocalDateTime.now().minusDays(1);
-        long recentBookings = bookingRepository.findAll().stream()
-            .filter(b -> b.getCreatedAt().isAfter(yesterday))
-            .count();
+        // Real-time counts from the in-memory analytics aggregates
+        long totalProperties = aggregates.propertyCount();
+        long totalBookings = aggregates.bookingsByStatus().values().stream().mapToLong(Long::longValue).sum();
+        long totalUsers = aggregates.usersByRole().values().stream().mapToLong(Long::longValue).sum();
         
-        // Note: Property model doesn't have createdAt field, so we'll use total properties for now
-        long recentProperties = 0; // Placeholder for future implementation
+        // Recent activity (last 24 hours and last hour) from the per-minute counters
+        Map<String, Object> lastHour = new HashMap<>();
+        lastHour.put("bookings", bookingsCreated.sum(MINUTES_PER_HOUR));
+        lastHour.put("properties", propertiesListed.sum(MINUTES_PER_HOUR));
+        lastHour.put("users", usersRegistered.sum(MINUTES_PER_HOUR));
+        lastHour.put("reviews", reviewsAdded.sum(MINUTES_PER_HOUR));
         
         analytics.put("totalProperties", totalProperties);
         analytics.put("totalBookings", totalBookings);
         analytics.put("totalUsers", totalUsers);
-        analytics.put("recentBookings", recentBookings);
-        analytics.put("recentProperties", recentProperties);
+        analytics.put("recentBookings", bookingsCreated.sum());
+        analytics.put("recentProperties", propertiesListed.sum());
+        analytics.put("recentUsers", usersRegistered.sum());
+        analytics.put("recentReviews", reviewsAdded.sum());
+        analytics.put("lastHour", lastHour);
         analytics.put("timestamp", LocalDateTime.now());
         
         return analytics;
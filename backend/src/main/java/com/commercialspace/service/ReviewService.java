@@ -2,14 +2,18 @@ package com.commercialspace.service;
 
 import com.commercialspace.dto.ReviewRequest;
 import com.commercialspace.dto.ReviewResponse;
+import com.commercialspace.event.PropertyChangedEvent;
 import com.commercialspace.model.Property;
 import com.commercialspace.model.Review;
 import com.commercialspace.model.User;
+import com.commercialspace.repository.PropertyRatingStatsRepository;
 import com.commercialspace.repository.PropertyRepository;
 import com.commercialspace.repository.ReviewRepository;
 import com.commercialspace.repository.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.stream.Collectors;
@@ -22,12 +26,20 @@ public class ReviewService {
     private PropertyRepository propertyRepository;
     @Autowired
     private UserRepository userRepository;
+    @Autowired
+    private PropertyRatingStatsRepository ratingStatsRepository;
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
 
     public List<ReviewResponse> getReviewsForProperty(Long propertyId) {
         return reviewRepository.findByPropertyId(propertyId).stream().map(this::toDto).collect(Collectors.toList());
     }
 
+    @Transactional
     public ReviewResponse addReview(Long propertyId, String userEmail, ReviewRequest request) {
+        if (request.getRating() < 1 || request.getRating() > 5) {
+            throw new IllegalArgumentException("Rating must be between 1 and 5");
+        }
         Property property = propertyRepository.findById(propertyId).orElseThrow();
         User user = userRepository.findByEmail(userEmail).orElseThrow();
         Review review = new Review();
@@ -36,6 +48,8 @@ public class ReviewService {
         review.setRating(request.getRating());
         review.setComment(request.getComment());
         Review saved = reviewRepository.save(review);
+        ratingStatsRepository.addRating(propertyId, request.getRating());
+        eventPublisher.publishEvent(new PropertyChangedEvent(property, PropertyChangedEvent.Change.REVIEW_ADDED));
         return toDto(saved);
     }
 
@@ -3,9 +3,14 @@ package com.commercialspace.service;
 import com.commercialspace.dto.SignupRequest;
 import com.commercialspace.dto.UserResponse;
 import com.commercialspace.dto.UserUpdateRequest;
+import com.commercialspace.event.PropertyChangedEvent;
+import com.commercialspace.event.UserRegisteredEvent;
+import com.commercialspace.model.Property;
 import com.commercialspace.model.User;
+import com.commercialspace.repository.PropertyRepository;
 import com.commercialspace.repository.UserRepository;
 import org.modelmapper.ModelMapper;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.slf4j.Logger;
@@ -16,13 +21,18 @@ public class UserService {
 
     private static final Logger logger = LoggerFactory.getLogger(UserService.class);
     private final UserRepository userRepository;
+    private final PropertyRepository propertyRepository;
     private final PasswordEncoder passwordEncoder;
     private final ModelMapper modelMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public UserService(UserRepository userRepository, PasswordEncoder passwordEncoder, ModelMapper modelMapper) {
+    public UserService(UserRepository userRepository, PropertyRepository propertyRepository, PasswordEncoder passwordEncoder,
+                       ModelMapper modelMapper, ApplicationEventPublisher eventPublisher) {
         this.userRepository = userRepository;
+        this.propertyRepository = propertyRepository;
         this.passwordEncoder = passwordEncoder;
         this.modelMapper = modelMapper;
+        this.eventPublisher = eventPublisher;
     }
 
     public UserResponse createUser(SignupRequest signupRequest) {
@@ -41,6 +51,7 @@ public class UserService {
         
     
         User savedUser = userRepository.save(user);
+        eventPublisher.publishEvent(new UserRegisteredEvent(savedUser.getId(), savedUser.getRole(), savedUser.getCreatedAt()));
         logger.info("User created with email: {} and ID: {}", savedUser.getEmail(), savedUser.getId());
         return modelMapper.map(savedUser, UserResponse.class);
         
@@ -87,13 +98,21 @@ public class UserService {
                     logger.warn("User not found for email: {}", email);
                     return new IllegalArgumentException("User not found with email: " + email);
                 });
+        boolean renamed = false;
         if (updateRequest.getName() != null && !updateRequest.getName().isEmpty()) {
+            renamed = !updateRequest.getName().equals(user.getName());
             user.setName(updateRequest.getName());
         }
         if (updateRequest.getPassword() != null && !updateRequest.getPassword().isEmpty()) {
             user.setPassword(passwordEncoder.encode(updateRequest.getPassword()));
         }
         User savedUser = userRepository.save(user);
+        if (renamed) {
+            // Property responses render the owner's name, so cached copies and catalog ETags must move on
+            for (Property property : propertyRepository.findByOwnerId(savedUser.getId())) {
+                eventPublisher.publishEvent(new PropertyChangedEvent(property, PropertyChangedEvent.Change.OWNER_UPDATED));
+            }
+        }
         logger.info("User updated for email: {}", email);
         return modelMapper.map(savedUser, UserResponse.class);
     }
@@ -0,0 +1,157 @@
+package com.commercialspace.util;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Hashed timing wheel: timeouts are hashed into a ring of buckets by deadline tick and a single worker thread
+// advances one bucket per tick. Scheduling and cancelling are O(1), so very many short-lived timers are cheap;
+// timeouts fire up to one tick late. Tasks run on the worker thread and must be short.
+public class HashedTimingWheel {
+
+    private static final Logger logger = LoggerFactory.getLogger(HashedTimingWheel.class);
+
+    private static final int PENDING = 0;
+    private static final int CANCELLED = 1;
+    private static final int EXPIRED = 2;
+
+    public static final class Timeout {
+        private final Runnable task;
+        private final long deadlineTick;
+        private final AtomicInteger state = new AtomicInteger(PENDING);
+        // Full turns of the wheel left before the timeout is due; only touched by the worker
+        private long remainingRounds;
+
+        private Timeout(Runnable task, long deadlineTick) {
+            this.task = task;
+            this.deadlineTick = deadlineTick;
+        }
+
+        // Returns false when the timeout already fired or was cancelled
+        public boolean cancel() {
+            return state.compareAndSet(PENDING, CANCELLED);
+        }
+
+        public boolean isCancelled() {
+            return state.get() == CANCELLED;
+        }
+
+        public boolean isExpired() {
+            return state.get() == EXPIRED;
+        }
+    }
+
+    private final long tickNanos;
+    private final int mask;
+    private final List<List<Timeout>> wheel;
+    // New timeouts are handed to the worker through this queue, so only the worker touches the buckets
+    private final Queue<Timeout> added = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pending = new AtomicInteger();
+    private final Thread worker;
+    private final long startNanos;
+    private volatile boolean running = true;
+    private long tick;
+
+    public HashedTimingWheel(String name, long tickDuration, TimeUnit unit, int ticksPerWheel) {
+        if (tickDuration <= 0 || ticksPerWheel <= 0) {
+            throw new IllegalArgumentException("Tick duration and wheel size must be positive");
+        }
+        int size = Integer.highestOneBit(ticksPerWheel - 1) << 1;
+        size = Math.max(size, 1);
+        this.tickNanos = unit.toNanos(tickDuration);
+        this.mask = size - 1;
+        this.wheel = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            wheel.add(new ArrayList<>());
+        }
+        this.startNanos = System.nanoTime();
+        this.worker = new Thread(this::run, name);
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    public Timeout schedule(Runnable task, long delay, TimeUnit unit) {
+        if (!running) {
+            throw new IllegalStateException("Timing wheel is stopped");
+        }
+        long deadlineNanos = System.nanoTime() - startNanos + Math.max(0, unit.toNanos(delay));
+        // Round up so a timeout never fires early
+        Timeout timeout = new Timeout(task, (deadlineNanos + tickNanos - 1) / tickNanos);
+        pending.incrementAndGet();
+        added.add(timeout);
+        return timeout;
+    }
+
+    // Scheduled timeouts that have neither fired nor been swept out after cancellation
+    public int pendingTimeouts() {
+        return pending.get();
+    }
+
+    public void stop() {
+        running = false;
+        worker.interrupt();
+    }
+
+    private void run() {
+        while (running) {
+            long deadline = startNanos + (tick + 1) * tickNanos;
+            long sleepNanos = deadline - System.nanoTime();
+            if (sleepNanos > 0) {
+                try {
+                    TimeUnit.NANOSECONDS.sleep(sleepNanos);
+                } catch (InterruptedException e) {
+                    if (!running) {
+                        return;
+                    }
+                    continue;
+                }
+            }
+            tick++;
+            transferAdded();
+            expire(wheel.get((int) (tick & mask)));
+        }
+    }
+
+    private void transferAdded() {
+        Timeout timeout;
+        while ((timeout = added.poll()) != null) {
+            if (timeout.isCancelled()) {
+                pending.decrementAndGet();
+                continue;
+            }
+            // A deadline that has already passed goes into the current bucket and fires on this tick
+            long dueTick = Math.max(timeout.deadlineTick, tick);
+            timeout.remainingRounds = (dueTick - tick) / wheel.size();
+            wheel.get((int) (dueTick & mask)).add(timeout);
+        }
+    }
+
+    private void expire(List<Timeout> bucket) {
+        int kept = 0;
+        for (int i = 0; i < bucket.size(); i++) {
+            Timeout timeout = bucket.get(i);
+            if (timeout.isCancelled()) {
+                pending.decrementAndGet();
+            } else if (timeout.remainingRounds > 0) {
+                timeout.remainingRounds--;
+                bucket.set(kept++, timeout);
+            } else if (timeout.state.compareAndSet(PENDING, EXPIRED)) {
+                pending.decrementAndGet();
+                try {
+                    timeout.task.run();
+                } catch (RuntimeException e) {
+                    logger.error("Timing wheel task failed", e);
+                }
+            } else {
+                pending.decrementAndGet();
+            }
+        }
+        bucket.subList(kept, bucket.size()).clear();
+    }
+}
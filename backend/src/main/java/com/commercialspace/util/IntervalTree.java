@@ -0,0 +1,210 @@
+package com.commercialspace.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// AVL tree of closed intervals [start, end] ordered by (start, id). Each node also tracks the largest end in its
+// subtree, so an overlap check only descends into subtrees that can still contain a match. Not thread-safe.
+public class IntervalTree {
+
+    public static final class Interval {
+        private final long start;
+        private final long end;
+        private final long id;
+
+        Interval(long start, long end, long id) {
+            this.start = start;
+            this.end = end;
+            this.id = id;
+        }
+
+        public long getStart() { return start; }
+        public long getEnd() { return end; }
+        public long getId() { return id; }
+    }
+
+    private static final class Node {
+        private final long start;
+        private final long end;
+        private final long id;
+        private long maxEnd;
+        private int height = 1;
+        private Node left;
+        private Node right;
+
+        Node(long start, long end, long id) {
+            this.start = start;
+            this.end = end;
+            this.id = id;
+            this.maxEnd = end;
+        }
+    }
+
+    private Node root;
+    private int size;
+
+    public int size() {
+        return size;
+    }
+
+    public void insert(long start, long end, long id) {
+        if (end < start) {
+            throw new IllegalArgumentException("Interval end must not be before start");
+        }
+        root = insert(root, new Node(start, end, id));
+        size++;
+    }
+
+    // Removes the interval with the given start and id; returns false when it is not present
+    public boolean remove(long start, long id) {
+        int before = size;
+        root = remove(root, start, id);
+        return size < before;
+    }
+
+    // Returns the id of any interval overlapping [start, end] other than excludeId, or null when there is none
+    public Long findOverlap(long start, long end, long excludeId) {
+        return findOverlap(root, start, end, excludeId);
+    }
+
+    // Returns every interval overlapping [start, end], ordered by start
+    public List<Interval> overlapping(long start, long end) {
+        List<Interval> result = new ArrayList<>();
+        collect(root, start, end, result);
+        return result;
+    }
+
+    private static Long findOverlap(Node node, long start, long end, long excludeId) {
+        while (node != null) {
+            if (node.maxEnd < start) {
+                return null;
+            }
+            if (node.start <= end && node.end >= start && node.id != excludeId) {
+                return node.id;
+            }
+            // Only the excluded interval can send us down both sides, so recurse on the left and loop on the right
+            if (node.left != null && node.left.maxEnd >= start) {
+                Long found = findOverlap(node.left, start, end, excludeId);
+                if (found != null) {
+                    return found;
+                }
+            }
+            if (node.start > end) {
+                return null;
+            }
+            node = node.right;
+        }
+        return null;
+    }
+
+    private static void collect(Node node, long start, long end, List<Interval> out) {
+        if (node == null || node.maxEnd < start) {
+            return;
+        }
+        collect(node.left, start, end, out);
+        if (node.start <= end && node.end >= start) {
+            out.add(new Interval(node.start, node.end, node.id));
+        }
+        if (node.start <= end) {
+            collect(node.right, start, end, out);
+        }
+    }
+
+    private static int compare(long start, long id, Node node) {
+        int c = Long.compare(start, node.start);
+        return c != 0 ? c : Long.compare(id, node.id);
+    }
+
+    private Node insert(Node node, Node added) {
+        if (node == null) {
+            return added;
+        }
+        if (compare(added.start, added.id, node) < 0) {
+            node.left = insert(node.left, added);
+        } else {
+            node.right = insert(node.right, added);
+        }
+        return balance(node);
+    }
+
+    private Node remove(Node node, long start, long id) {
+        if (node == null) {
+            return null;
+        }
+        int c = compare(start, id, node);
+        if (c < 0) {
+            node.left = remove(node.left, start, id);
+        } else if (c > 0) {
+            node.right = remove(node.right, start, id);
+        } else {
+            size--;
+            if (node.left == null) return node.right;
+            if (node.right == null) return node.left;
+            Node successor = node.right;
+            while (successor.left != null) {
+                successor = successor.left;
+            }
+            Node replacement = new Node(successor.start, successor.end, successor.id);
+            replacement.right = removeMin(node.right);
+            replacement.left = node.left;
+            return balance(replacement);
+        }
+        return balance(node);
+    }
+
+    private static Node removeMin(Node node) {
+        if (node.left == null) {
+            return node.right;
+        }
+        node.left = removeMin(node.left);
+        return balance(node);
+    }
+
+    private static int height(Node node) {
+        return node == null ? 0 : node.height;
+    }
+
+    private static void update(Node node) {
+        node.height = 1 + Math.max(height(node.left), height(node.right));
+        long maxEnd = node.end;
+        if (node.left != null) maxEnd = Math.max(maxEnd, node.left.maxEnd);
+        if (node.right != null) maxEnd = Math.max(maxEnd, node.right.maxEnd);
+        node.maxEnd = maxEnd;
+    }
+
+    private static Node balance(Node node) {
+        update(node);
+        int factor = height(node.left) - height(node.right);
+        if (factor > 1) {
+            if (height(node.left.left) < height(node.left.right)) {
+                node.left = rotateLeft(node.left);
+            }
+            return rotateRight(node);
+        }
+        if (factor < -1) {
+            if (height(node.right.right) < height(node.right.left)) {
+                node.right = rotateRight(node.right);
+            }
+            return rotateLeft(node);
+        }
+        return node;
+    }
+
+    private static Node rotateRight(Node node) {
+        Node pivot = node.left;
+        node.left = pivot.right;
+        pivot.right = node;
+        update(node);
+        update(pivot);
+        return pivot;
+    }
+
+    private static Node rotateLeft(Node node) {
+        Node pivot = node.right;
+        node.right = pivot.left;
+        pivot.left = node;
+        update(node);
+        update(pivot);
+        return pivot;
+    }
+}
@@ -0,0 +1,32 @@
+package com.commercialspace.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.regex.Pattern;
+
+// Opaque continuation token for keyset pagination: the sort key of the last row, URL-safe encoded
+public class PageCursor {
+    private static final String SEPARATOR = "|";
+
+    public static String encode(Object... keys) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < keys.length; i++) {
+            if (i > 0) sb.append(SEPARATOR);
+            sb.append(keys[i]);
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(sb.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static String[] decode(String cursor, int expectedKeys) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] keys = raw.split(Pattern.quote(SEPARATOR), -1);
+            if (keys.length != expectedKeys) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            return keys;
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+}
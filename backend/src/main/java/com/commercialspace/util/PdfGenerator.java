@@ -6,6 +6,7 @@ import com.commercialspace.model.Property;
 import com.itextpdf.text.Document;
 import com.itextpdf.text.DocumentException;
 import com.itextpdf.text.Element;
+import com.itextpdf.text.BaseColor;
 import com.itextpdf.text.Font;
 import com.itextpdf.text.PageSize;
 import com.itextpdf.text.Paragraph;
@@ -14,57 +15,65 @@ import java.io.ByteArrayOutputStream;
 import java.time.format.DateTimeFormatter;
 
 public class PdfGenerator {
+    // Fonts, colors and fixed text are built once and shared by every render; they are never mutated after creation
+    private static final Font TITLE_FONT = new Font(Font.FontFamily.HELVETICA, 26, Font.BOLD, new BaseColor(37, 99, 235)); // blue
+    private static final Font SUBTITLE_FONT = new Font(Font.FontFamily.HELVETICA, 18, Font.BOLD, new BaseColor(14, 165, 233)); // cyan
+    private static final Font SECTION_FONT = new Font(Font.FontFamily.HELVETICA, 15, Font.BOLD, new BaseColor(99, 102, 241)); // indigo
+    private static final Font NORMAL_FONT = new Font(Font.FontFamily.HELVETICA, 12, Font.NORMAL, new BaseColor(51, 65, 85)); // dark slate
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("dd MMM yyyy");
+
+    private static final String TITLE = "Commercial Space Lease Agreement";
+    private static final String SUBTITLE = "This is a legal agreement form for your booking on Commercial Space.";
+    private static final String INTRO = "You can meet and discuss further details. For legal advice, contact our legal team.";
+    private static final String THANKS = "Thank you for using Commercial Space!";
+
+    // A rendered lease is a few KB; start the buffer there instead of growing it from 32 bytes
+    private static final int INITIAL_BUFFER_SIZE = 8 * 1024;
+
     public static byte[] generateLeaseAgreement(Booking booking) throws DocumentException {
         Document document = new Document(PageSize.A4, 40, 40, 40, 40);
-        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        ByteArrayOutputStream baos = new ByteArrayOutputStream(INITIAL_BUFFER_SIZE);
         PdfWriter.getInstance(document, baos);
         document.open();
 
-        Font titleFont = new Font(Font.FontFamily.HELVETICA, 26, Font.BOLD, new com.itextpdf.text.BaseColor(37,99,235)); // blue
-        Font subtitleFont = new Font(Font.FontFamily.HELVETICA, 18, Font.BOLD, new com.itextpdf.text.BaseColor(14,165,233)); // cyan
-        Font sectionFont = new Font(Font.FontFamily.HELVETICA, 15, Font.BOLD, new com.itextpdf.text.BaseColor(99,102,241)); // indigo
-        Font labelFont = new Font(Font.FontFamily.HELVETICA, 12, Font.BOLD, new com.itextpdf.text.BaseColor(71,85,105)); // slate
-        Font normalFont = new Font(Font.FontFamily.HELVETICA, 12, Font.NORMAL, new com.itextpdf.text.BaseColor(51,65,85)); // dark slate
-
-        Paragraph title = new Paragraph("Commercial Space Lease Agreement", titleFont);
+        Paragraph title = new Paragraph(TITLE, TITLE_FONT);
         title.setAlignment(Element.ALIGN_CENTER);
         document.add(title);
         document.add(new Paragraph("\n"));
 
-        Paragraph subtitle = new Paragraph("This is a legal agreement form for your booking on Commercial Space.", subtitleFont);
+        Paragraph subtitle = new Paragraph(SUBTITLE, SUBTITLE_FONT);
         subtitle.setAlignment(Element.ALIGN_CENTER);
         document.add(subtitle);
-        document.add(new Paragraph("You can meet and discuss further details. For legal advice, contact our legal team.", normalFont));
+        document.add(new Paragraph(INTRO, NORMAL_FONT));
         document.add(new Paragraph("\n"));
 
-        document.add(new Paragraph("Property Details", sectionFont));
+        document.add(new Paragraph("Property Details", SECTION_FONT));
         Property property = booking.getProperty();
-        document.add(new Paragraph("Title: " + property.getTitle(), normalFont));
-        document.add(new Paragraph("Address: " + property.getAddress() + ", " + property.getCity() + ", " + property.getState() + ", " + property.getCountry(), normalFont));
-        document.add(new Paragraph("Price: ₹" + property.getPrice(), normalFont));
-        document.add(new Paragraph("Type: " + property.getType(), normalFont));
-        document.add(new Paragraph("Area: " + property.getArea() + " sq.ft.", normalFont));
+        document.add(new Paragraph("Title: " + property.getTitle(), NORMAL_FONT));
+        document.add(new Paragraph("Address: " + property.getAddress() + ", " + property.getCity() + ", " + property.getState() + ", " + property.getCountry(), NORMAL_FONT));
+        document.add(new Paragraph("Price: ₹" + property.getPrice(), NORMAL_FONT));
+        document.add(new Paragraph("Type: " + property.getType(), NORMAL_FONT));
+        document.add(new Paragraph("Area: " + property.getArea() + " sq.ft.", NORMAL_FONT));
         document.add(new Paragraph("\n"));
 
-        document.add(new Paragraph("Booking Details", sectionFont));
-        DateTimeFormatter dtf = DateTimeFormatter.ofPattern("dd MMM yyyy");
-        document.add(new Paragraph("Start Date: " + dtf.format(booking.getStartDate()), normalFont));
-        document.add(new Paragraph("End Date: " + dtf.format(booking.getEndDate()), normalFont));
+        document.add(new Paragraph("Booking Details", SECTION_FONT));
+        document.add(new Paragraph("Start Date: " + DATE_FORMAT.format(booking.getStartDate()), NORMAL_FONT));
+        document.add(new Paragraph("End Date: " + DATE_FORMAT.format(booking.getEndDate()), NORMAL_FONT));
         document.add(new Paragraph("\n"));
 
-        document.add(new Paragraph("Customer Details", sectionFont));
+        document.add(new Paragraph("Customer Details", SECTION_FONT));
         User customer = booking.getCustomer();
-        document.add(new Paragraph("Name: " + customer.getName(), normalFont));
-        document.add(new Paragraph("Email: " + customer.getEmail(), normalFont));
+        document.add(new Paragraph("Name: " + customer.getName(), NORMAL_FONT));
+        document.add(new Paragraph("Email: " + customer.getEmail(), NORMAL_FONT));
         document.add(new Paragraph("\n"));
 
-        document.add(new Paragraph("Owner Details", sectionFont));
+        document.add(new Paragraph("Owner Details", SECTION_FONT));
         User owner = booking.getOwner();
-        document.add(new Paragraph("Name: " + owner.getName(), normalFont));
-        document.add(new Paragraph("Email: " + owner.getEmail(), normalFont));
+        document.add(new Paragraph("Name: " + owner.getName(), NORMAL_FONT));
+        document.add(new Paragraph("Email: " + owner.getEmail(), NORMAL_FONT));
         document.add(new Paragraph("\n"));
 
-        Paragraph thanks = new Paragraph("Thank you for using Commercial Space!", subtitleFont);
+        Paragraph thanks = new Paragraph(THANKS, SUBTITLE_FONT);
         thanks.setAlignment(Element.ALIGN_CENTER);
         document.add(thanks);
         document.close();
@@ -0,0 +1,74 @@
+package com.commercialspace.util;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// Event counts over a sliding window, kept in a ring of fixed-width time buckets. Each slot packs its bucket number
+// (high 32 bits) and count (low 32 bits) into one long, so claiming a stale slot and counting into it is a single CAS
+// and neither writers nor readers lock. Reads walk the ring once and skip slots that have fallen out of the window.
+public class SlidingWindowCounter {
+
+    private static final long COUNT_MASK = 0xFFFF_FFFFL;
+
+    private final long bucketMillis;
+    private final AtomicLongArray slots;
+
+    public SlidingWindowCounter(int buckets, long bucketDuration, TimeUnit unit) {
+        // Bucket numbers must fit in 32 bits; one-second buckets last until 2106, one-minute buckets far longer
+        if (buckets <= 0 || unit.toMillis(bucketDuration) < 1000) {
+            throw new IllegalArgumentException("Need at least one bucket of at least one second");
+        }
+        this.bucketMillis = unit.toMillis(bucketDuration);
+        this.slots = new AtomicLongArray(buckets);
+    }
+
+    public void increment() {
+        add(System.currentTimeMillis(), 1);
+    }
+
+    // Counts events at the given time; events that are already older than the window are dropped
+    public void add(long epochMillis, long count) {
+        long bucket = epochMillis / bucketMillis;
+        int index = (int) (bucket % slots.length());
+        while (true) {
+            long slot = slots.get(index);
+            long slotBucket = slot >>> 32;
+            long updated;
+            if (slotBucket == bucket) {
+                updated = slot + count;
+            } else if (slotBucket < bucket) {
+                updated = (bucket << 32) | (count & COUNT_MASK);
+            } else {
+                // The slot has moved on to a bucket a full window later
+                return;
+            }
+            if (slots.compareAndSet(index, slot, updated)) {
+                return;
+            }
+        }
+    }
+
+    // Events in the most recent `buckets` buckets, including the current partial one
+    public long sum(int buckets) {
+        long current = System.currentTimeMillis() / bucketMillis;
+        long oldest = current - Math.min(buckets, slots.length()) + 1;
+        long total = 0;
+        for (int i = 0; i < slots.length(); i++) {
+            long slot = slots.get(i);
+            long slotBucket = slot >>> 32;
+            if (slotBucket >= oldest && slotBucket <= current) {
+                total += slot & COUNT_MASK;
+            }
+        }
+        return total;
+    }
+
+    // Events over the whole window
+    public long sum() {
+        return sum(slots.length());
+    }
+
+    public int buckets() {
+        return slots.length();
+    }
+}